@@ -0,0 +1,80 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Op;
+import com.chalcodes.event.RingBufferBus;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.ops.DeliverOn;
+import com.chalcodes.event.ops.QueueOn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous delivery to a single receiver. The throughput benchmark
+ * publishes a burst of events and waits for all of them to be delivered. The
+ * latency benchmark waits for each event before publishing the next.
+ *
+ * @author Kevin Krumwiede
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncBenchmark {
+	private static final int BURST = 1000;
+
+	@Param({"queueOn", "deliverOn", "ringBuffer"})
+	public String op;
+
+	private final Object mEvent = new Object();
+	private ExecutorService mExecutor;
+	private Op<Object, Object> mOp;
+	private CountingReceiver mReceiver;
+	private long mExpected;
+
+	@Setup
+	public void setUp() {
+		mReceiver = new CountingReceiver();
+		mExpected = 0;
+		if("ringBuffer".equals(op)) {
+			mExecutor = Executors.newCachedThreadPool();
+			mOp = new RingBufferBus<Object>(mExecutor, 4096, RingBufferBus.WaitStrategy.YIELD, null);
+			mOp.register(mReceiver);
+		}
+		else {
+			mExecutor = Executors.newSingleThreadExecutor();
+			mOp = "queueOn".equals(op) ? new QueueOn<Object>(mExecutor) : new DeliverOn<Object>(mExecutor);
+			final SimpleEventBus<Object> bus = new SimpleEventBus<Object>();
+			mOp.register(bus);
+			bus.register(mReceiver);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		mOp.unregister(mReceiver);
+		mExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@OperationsPerInvocation(BURST)
+	public void throughput() {
+		for(int i = 0; i < BURST; ++i) {
+			mOp.onEvent(mEvent);
+		}
+		mExpected += BURST;
+		mReceiver.await(mExpected);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public void latency() {
+		mOp.onEvent(mEvent);
+		mReceiver.await(++mExpected);
+	}
+}
@@ -0,0 +1,75 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.primitive.LongBatchFilter;
+import com.chalcodes.event.primitive.LongFilter;
+import com.chalcodes.event.primitive.LongPass;
+import com.chalcodes.event.primitive.LongReceiver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compacting a batch of random longs with about half matching, one event at
+ * a time through {@link LongPass} versus in bulk with {@link LongBatchFilter}.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchFilterBenchmark {
+	@Param({"1024"})
+	public int size;
+
+	private final LongBatchFilter mFilter = LongBatchFilter.between(0, Long.MAX_VALUE);
+	private long[] mIn;
+	private long[] mOut;
+	private int mCount;
+	private LongPass mPass;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(42);
+		mIn = new long[size];
+		mOut = new long[size];
+		for(int i = 0; i < size; ++i) {
+			mIn[i] = random.nextLong();
+		}
+		mPass = new LongPass(mFilter);
+		mPass.register(new LongReceiver() {
+			@Override
+			public void onEvent(final long event) {
+				mOut[mCount++] = event;
+			}
+		});
+	}
+
+	@Benchmark
+	public int perEvent() {
+		mCount = 0;
+		for(int i = 0; i < mIn.length; ++i) {
+			mPass.onEvent(mIn[i]);
+		}
+		return mCount;
+	}
+
+	@Benchmark
+	public int scalarFallback() {
+		final LongFilter filter = new LongFilter() {
+			@Override
+			public boolean matches(final long event) {
+				return mFilter.matches(event);
+			}
+		};
+		return LongBatchFilter.filter(filter, mIn, 0, mIn.length, mOut, 0);
+	}
+
+	@Benchmark
+	public int batch() {
+		return mFilter.filter(mIn, 0, mIn.length, mOut, 0);
+	}
+}
@@ -0,0 +1,82 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Pass;
+import com.chalcodes.util.CollectionFactories;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing a burst of events to a {@link SimpleEventBus} one at a time
+ * versus as a batch. Half of the receivers are {@link Pass} ops that forward
+ * runs of matching events to a sink. Sinks count with a plain field so the
+ * benchmark measures dispatch rather than memory barriers.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchPublishBenchmark {
+	private static final Filter<Object> ALL = new Filter<Object>() {
+		@Override
+		public boolean matches(final Object event) {
+			return true;
+		}
+	};
+
+	static final class Sink implements Receiver<Object> {
+		long count;
+
+		@Override
+		public void onEvent(final Object event) {
+			++count;
+		}
+	}
+
+	@Param({"16", "256"})
+	public int burst;
+
+	@Param({"4"})
+	public int receivers;
+
+	private Object[] mEvents;
+	private SimpleEventBus<Object> mBus;
+
+	@Setup
+	public void setUp() {
+		mEvents = new Object[burst];
+		for(int i = 0; i < burst; ++i) {
+			mEvents[i] = new Object();
+		}
+		mBus = new SimpleEventBus<Object>(CollectionFactories.copyOnWriteArray().<Receiver<? super Object>>create(), null);
+		for(int i = 0; i < receivers; ++i) {
+			if((i & 1) == 0) {
+				mBus.register(new Sink());
+			}
+			else {
+				final Pass<Object> pass = new Pass<Object>(ALL);
+				pass.register(new Sink());
+				mBus.register(pass);
+			}
+		}
+	}
+
+	@Benchmark
+	public void perEvent() {
+		for(int i = 0; i < mEvents.length; ++i) {
+			mBus.onEvent(mEvents[i]);
+		}
+	}
+
+	@Benchmark
+	public void batch() {
+		mBus.onEvents(mEvents, 0, mEvents.length);
+	}
+}
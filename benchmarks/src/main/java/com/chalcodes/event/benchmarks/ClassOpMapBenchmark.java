@@ -0,0 +1,75 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.ClassIdOpMap;
+import com.chalcodes.event.ClassOpMap;
+import com.chalcodes.event.ConcurrentClassOpMap;
+import com.chalcodes.event.ExceptionHandler;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.OpMap;
+import com.chalcodes.event.SimpleBusFactory;
+import com.chalcodes.util.CollectionFactories;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of ops by event class, compared with lookup by class id.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ClassOpMapBenchmark {
+	static final Class<?>[] CLASSES = {
+			String.class, Integer.class, Long.class, Double.class,
+			Object.class, Thread.class, StringBuilder.class, Exception.class
+	};
+
+	@Param({"hash", "concurrent"})
+	public String map;
+
+	private OpMap mMap;
+	private int mIndex;
+
+	@Setup
+	public void setUp() {
+		final SimpleBusFactory<Object> factory = new SimpleBusFactory<Object>(CollectionFactories.copyOnWriteArray(),
+				(ExceptionHandler<Object>) null);
+		mMap = "concurrent".equals(map) ? new ConcurrentClassOpMap(factory) : new ClassOpMap(factory);
+		for(final Class<?> klass : CLASSES) {
+			mMap.getOp(klass);
+		}
+	}
+
+	@Benchmark
+	public Op<?, ?> getOp() {
+		mIndex = (mIndex + 1) & (CLASSES.length - 1);
+		return mMap.getOp(CLASSES[mIndex]);
+	}
+
+	@State(Scope.Thread)
+	public static class IdState {
+		ClassIdOpMap mIdMap;
+		final int[] mIds = new int[CLASSES.length];
+		int mIndex;
+
+		@Setup
+		public void setUp() {
+			mIdMap = new ClassIdOpMap(new SimpleBusFactory<Object>(CollectionFactories.copyOnWriteArray(),
+					(ExceptionHandler<Object>) null));
+			for(int i = 0; i < CLASSES.length; ++i) {
+				mIds[i] = mIdMap.register(CLASSES[i]);
+			}
+		}
+	}
+
+	@Benchmark
+	public Op<?, ?> getOpById(final IdState state) {
+		state.mIndex = (state.mIndex + 1) & (CLASSES.length - 1);
+		return state.mIdMap.getOp(state.mIds[state.mIndex]);
+	}
+}
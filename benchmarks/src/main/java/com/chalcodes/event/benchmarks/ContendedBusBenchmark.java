@@ -0,0 +1,61 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.ConcurrentEventBus;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.SynchronizedOp;
+import com.chalcodes.util.CollectionFactories;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Several threads publishing to one thread safe bus. The copyOnWrite bus is a
+ * {@link SimpleEventBus} whose receivers are held in a {@link
+ * com.chalcodes.util.ConcurrentCopyOnWriteCollection}.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ContendedBusBenchmark {
+	@Param({"synchronized", "concurrent", "copyOnWrite"})
+	public String bus;
+
+	@Param({"4"})
+	public int receivers;
+
+	@Param({"10"})
+	public long tokens;
+
+	private final Object mEvent = new Object();
+	private Op<Object, Object> mBus;
+
+	@Setup
+	public void setUp() {
+		if("synchronized".equals(bus)) {
+			mBus = new SynchronizedOp<Object, Object>(new SimpleEventBus<Object>());
+		}
+		else if("copyOnWrite".equals(bus)) {
+			mBus = new SimpleEventBus<Object>(CollectionFactories.concurrentCopyOnWriteCollection(
+					CollectionFactories.copyOnWriteArray()).<Receiver<? super Object>>create(), null);
+		}
+		else {
+			mBus = new ConcurrentEventBus<Object>();
+		}
+		for(int i = 0; i < receivers; ++i) {
+			mBus.register(new WorkingReceiver(tokens));
+		}
+	}
+
+	@Benchmark
+	public void publish() {
+		mBus.onEvent(mEvent);
+	}
+}
@@ -0,0 +1,44 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A receiver that counts events, optionally burning a fixed amount of CPU for
+ * each one. The count is volatile so other threads can wait for delivery, but
+ * it must only be incremented by one thread at a time.
+ *
+ * @author Kevin Krumwiede
+ */
+public class CountingReceiver implements Receiver<Object> {
+	public volatile long count;
+	private final long mTokens;
+
+	public CountingReceiver(final long tokens) {
+		mTokens = tokens;
+	}
+
+	public CountingReceiver() {
+		this(0);
+	}
+
+	@Override
+	public void onEvent(final Object event) {
+		if(mTokens > 0) {
+			Blackhole.consumeCPU(mTokens);
+		}
+		//noinspection NonAtomicOperationOnVolatileField
+		++count;
+	}
+
+	/**
+	 * Spins until the count reaches the specified value.
+	 *
+	 * @param target the target count
+	 */
+	public void await(final long target) {
+		while(count < target) {
+			Thread.yield();
+		}
+	}
+}
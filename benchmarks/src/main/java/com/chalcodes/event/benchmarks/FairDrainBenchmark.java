@@ -0,0 +1,80 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.ops.QueueOn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many queues sharing a small thread pool. Before each invocation, all but one
+ * queue are flooded with a backlog. The invocation measures only how long an
+ * event published to the remaining queue takes to be delivered.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FairDrainBenchmark {
+	private static final int QUEUES = 1000;
+	private static final int THREADS = 4;
+	private static final int BACKLOG = 100;
+	private static final long TOKENS = 100;
+
+	/** Integer.MAX_VALUE means no budget. */
+	@Param({"2147483647", "16"})
+	public int maxEventsPerRun;
+
+	private final Object mEvent = new Object();
+	private ExecutorService mExecutor;
+	private QueueOn<Object>[] mQueues;
+	private CountingReceiver[] mReceivers;
+	private long mExpected;
+
+	@Setup
+	public void setUp() {
+		mExecutor = Executors.newFixedThreadPool(THREADS);
+		//noinspection unchecked
+		mQueues = new QueueOn[QUEUES];
+		mReceivers = new CountingReceiver[QUEUES];
+		for(int i = 0; i < QUEUES; ++i) {
+			mQueues[i] = new QueueOn<Object>(mExecutor, maxEventsPerRun, 0);
+			mReceivers[i] = new CountingReceiver(TOKENS);
+			mQueues[i].register(mReceivers[i]);
+		}
+		mExpected = 0;
+	}
+
+	@TearDown
+	public void tearDown() {
+		mExecutor.shutdownNow();
+	}
+
+	@Setup(Level.Invocation)
+	public void flood() {
+		++mExpected;
+		for(int i = 0; i < QUEUES - 1; ++i) {
+			for(int j = 0; j < BACKLOG; ++j) {
+				mQueues[i].onEvent(mEvent);
+			}
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void awaitBacklog() {
+		for(int i = 0; i < QUEUES - 1; ++i) {
+			mReceivers[i].await(mExpected * BACKLOG);
+		}
+	}
+
+	@Benchmark
+	public void probe() {
+		mQueues[QUEUES - 1].onEvent(mEvent);
+		mReceivers[QUEUES - 1].await(mExpected);
+	}
+}
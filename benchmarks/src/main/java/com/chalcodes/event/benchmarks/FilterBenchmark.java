@@ -0,0 +1,68 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Filters;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed versus adaptive ordering of combined filters, where the expensive,
+ * unselective filter is given first.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterBenchmark {
+	private static final int EVENTS = 1024;
+
+	private static final Filter<Integer> EXPENSIVE = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			Blackhole.consumeCPU(50);
+			return event >= 0;
+		}
+	};
+
+	private static final Filter<Integer> SELECTIVE = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return (event & 15) == 0;
+		}
+	};
+
+	private final Integer[] mEvents = new Integer[EVENTS];
+	private int mIndex;
+	private Filter<Integer> mFixed;
+	private Filter<Integer> mAdaptive;
+
+	@Setup
+	public void setUp() {
+		for(int i = 0; i < EVENTS; ++i) {
+			mEvents[i] = i;
+		}
+		mFixed = Filters.combine(EXPENSIVE, SELECTIVE);
+		mAdaptive = Filters.adaptiveCombine(EXPENSIVE, SELECTIVE);
+	}
+
+	private Integer next() {
+		mIndex = (mIndex + 1) & (EVENTS - 1);
+		return mEvents[mIndex];
+	}
+
+	@Benchmark
+	public boolean fixed() {
+		return mFixed.matches(next());
+	}
+
+	@Benchmark
+	public boolean adaptive() {
+		return mAdaptive.matches(next());
+	}
+}
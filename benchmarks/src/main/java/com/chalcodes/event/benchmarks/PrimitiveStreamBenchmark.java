@@ -0,0 +1,74 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.Stream;
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.primitive.LongEventBus;
+import com.chalcodes.event.primitive.LongFilter;
+import com.chalcodes.event.primitive.LongReceiver;
+import com.chalcodes.event.primitive.LongStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivery of sequence numbers through equivalent boxed and primitive
+ * pipelines. The allocation rate reported by the GC profiler shows the cost
+ * of boxing.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveStreamBenchmark {
+	private long mSequence;
+	private long mSum;
+	private Receiver<Long> mBoxed;
+	private LongEventBus mPrimitive;
+
+	@Setup
+	public void setUp() {
+		final Receiver<Long> boxedSink = new Receiver<Long>() {
+			@Override
+			public void onEvent(final Long event) {
+				mSum += event;
+			}
+		};
+		mBoxed = Stream.pass(new Filter<Long>() {
+			@Override
+			public boolean matches(final Long event) {
+				return (event & 1) == 0;
+			}
+		}).changed().end(boxedSink);
+
+		final LongReceiver primitiveSink = new LongReceiver() {
+			@Override
+			public void onEvent(final long event) {
+				mSum += event;
+			}
+		};
+		mPrimitive = new LongEventBus();
+		LongStream.from(mPrimitive).pass(new LongFilter() {
+			@Override
+			public boolean matches(final long event) {
+				return (event & 1) == 0;
+			}
+		}).changed().end(primitiveSink);
+	}
+
+	@Benchmark
+	public long boxed() {
+		mBoxed.onEvent(++mSequence);
+		return mSum;
+	}
+
+	@Benchmark
+	public long primitive() {
+		mPrimitive.onEvent(++mSequence);
+		return mSum;
+	}
+}
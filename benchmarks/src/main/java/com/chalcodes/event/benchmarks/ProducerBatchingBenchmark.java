@@ -0,0 +1,76 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.ops.BatchingPublisher;
+import com.chalcodes.event.ops.QueueOn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Several threads publishing to one {@link QueueOn}, directly or through a
+ * {@link BatchingPublisher}. Each invocation publishes a burst and then
+ * flushes, so buffered events are never left behind.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ProducerBatchingBenchmark {
+	private static final int BURST = 64;
+
+	@Param({"16", "64"})
+	public int batchSize;
+
+	private final Object mEvent = new Object();
+	private final AtomicLong mPublished = new AtomicLong();
+	private ExecutorService mExecutor;
+	private QueueOn<Object> mQueueOn;
+	private BatchingPublisher<Object> mPublisher;
+	private CountingReceiver mReceiver;
+
+	@Setup
+	public void setUp() {
+		mExecutor = Executors.newSingleThreadExecutor();
+		mQueueOn = new QueueOn<Object>(mExecutor);
+		mReceiver = new CountingReceiver();
+		mQueueOn.register(mReceiver);
+		mPublisher = new BatchingPublisher<Object>(mQueueOn, Object.class, batchSize, 0);
+	}
+
+	@TearDown(Level.Iteration)
+	public void awaitDelivery() {
+		mReceiver.await(mPublished.get());
+	}
+
+	@TearDown
+	public void tearDown() {
+		mExecutor.shutdownNow();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public void direct() {
+		for(int i = 0; i < BURST; ++i) {
+			mQueueOn.onEvent(mEvent);
+		}
+		mPublished.addAndGet(BURST);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public void batched() {
+		for(int i = 0; i < BURST; ++i) {
+			mPublisher.onEvent(mEvent);
+		}
+		mPublisher.flush();
+		mPublished.addAndGet(BURST);
+	}
+}
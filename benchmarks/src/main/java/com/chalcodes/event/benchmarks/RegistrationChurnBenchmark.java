@@ -0,0 +1,43 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registering and unregistering one receiver on a bus that already has many
+ * receivers, with each copy-on-write receiver collection.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistrationChurnBenchmark {
+	@Param({"copyOnWriteCollection", "hashTrieSet"})
+	public String collection;
+
+	@Param({"100", "10000"})
+	public int receivers;
+
+	private final Receiver<Object> mReceiver = new CountingReceiver();
+	private SimpleEventBus<Object> mBus;
+
+	@Setup
+	public void setUp() {
+		mBus = new SimpleEventBus<Object>(SimpleEventBusBenchmark.factory(collection).<Receiver<? super Object>>create(), null);
+		for(int i = 0; i < receivers; ++i) {
+			mBus.register(new CountingReceiver());
+		}
+	}
+
+	@Benchmark
+	public boolean registerAndUnregister() {
+		return mBus.register(mReceiver) & mBus.unregister(mReceiver);
+	}
+}
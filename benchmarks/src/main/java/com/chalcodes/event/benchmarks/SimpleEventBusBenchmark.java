@@ -0,0 +1,101 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.FrozenEventBus;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.StickyEventBus;
+import com.chalcodes.util.CollectionFactories;
+import com.chalcodes.util.CollectionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronous delivery through {@link SimpleEventBus} and {@link
+ * StickyEventBus} with each receiver collection, and through a {@link
+ * FrozenEventBus} with the same number of receivers. Tree sets are omitted
+ * because they require comparable receivers.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleEventBusBenchmark {
+	@Param({"arrayList", "hashSet", "linkedHashSet", "copyOnWriteArrayList", "copyOnWriteArraySet",
+			"copyOnWriteCollection", "copyOnWriteArray", "hashTrieSet"})
+	public String collection;
+
+	@Param({"1", "4", "16"})
+	public int receivers;
+
+	private final Object mEvent = new Object();
+	private SimpleEventBus<Object> mSimpleBus;
+	private StickyEventBus<Object> mStickyBus;
+	private FrozenEventBus<Object> mFrozenBus;
+
+	@Setup
+	public void setUp() {
+		mSimpleBus = new SimpleEventBus<Object>(createCollection(), null);
+		mStickyBus = new StickyEventBus<Object>(createCollection(), null);
+		final Collection<Receiver<? super Object>> frozen = new ArrayList<Receiver<? super Object>>();
+		for(int i = 0; i < receivers; ++i) {
+			mSimpleBus.register(new CountingReceiver());
+			mStickyBus.register(new CountingReceiver());
+			frozen.add(new CountingReceiver());
+		}
+		mFrozenBus = FrozenEventBus.freeze(CollectionFactories.copyOnWriteArray(), frozen, null);
+	}
+
+	private Collection<Receiver<? super Object>> createCollection() {
+		if("arrayList".equals(collection)) {
+			return new ArrayList<Receiver<? super Object>>();
+		}
+		return factory(collection).create();
+	}
+
+	static CollectionFactory factory(final String name) {
+		if("hashSet".equals(name)) {
+			return CollectionFactories.hashSet();
+		}
+		if("linkedHashSet".equals(name)) {
+			return CollectionFactories.linkedHashSet();
+		}
+		if("copyOnWriteArrayList".equals(name)) {
+			return CollectionFactories.copyOnWriteArrayList();
+		}
+		if("copyOnWriteArraySet".equals(name)) {
+			return CollectionFactories.copyOnWriteArraySet();
+		}
+		if("copyOnWriteCollection".equals(name)) {
+			return CollectionFactories.copyOnWriteCollection(CollectionFactories.hashSet());
+		}
+		if("copyOnWriteArray".equals(name)) {
+			return CollectionFactories.copyOnWriteArray();
+		}
+		if("hashTrieSet".equals(name)) {
+			return CollectionFactories.hashTrieSet();
+		}
+		throw new IllegalArgumentException(name);
+	}
+
+	@Benchmark
+	public void simple() {
+		mSimpleBus.onEvent(mEvent);
+	}
+
+	@Benchmark
+	public void sticky() {
+		mStickyBus.onEvent(mEvent);
+	}
+
+	@Benchmark
+	public void frozen() {
+		mFrozenBus.onEvent(mEvent);
+	}
+}
@@ -0,0 +1,94 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.Stream;
+import com.chalcodes.event.ops.Changed;
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Ignore;
+import com.chalcodes.event.ops.Pass;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synchronous delivery through chains of ops built with {@link Stream}. The
+ * convenience methods fuse consecutive stages; the unfused variants chain
+ * explicit op instances.
+ *
+ * @author Kevin Krumwiede
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamBenchmark {
+	private static final int EVENTS = 1024;
+
+	private static final Filter<Integer> EVEN = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return (event & 1) == 0;
+		}
+	};
+
+	private static final Filter<Integer> POSITIVE = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return event >= 0;
+		}
+	};
+
+	private final Integer[] mEvents = new Integer[EVENTS];
+	private int mIndex;
+	private long mSum;
+	private final Receiver<Integer> mSink = new Receiver<Integer>() {
+		@Override
+		public void onEvent(final Integer event) {
+			mSum += event;
+		}
+	};
+	private Receiver<Integer> mPasses;
+	private Receiver<Integer> mMixed;
+	private Receiver<Integer> mPassesUnfused;
+	private Receiver<Integer> mMixedUnfused;
+
+	@Setup
+	public void setUp() {
+		for(int i = 0; i < EVENTS; ++i) {
+			mEvents[i] = i;
+		}
+		mPasses = Stream.pass(POSITIVE).pass(POSITIVE).pass(EVEN).pass(POSITIVE).pass(POSITIVE).end(mSink);
+		mMixed = Stream.pass(POSITIVE).ignore(0).changed().pass(EVEN).pass(POSITIVE).end(mSink);
+		mPassesUnfused = Stream.from(new Pass<Integer>(POSITIVE)).to(new Pass<Integer>(POSITIVE))
+				.to(new Pass<Integer>(EVEN)).to(new Pass<Integer>(POSITIVE)).to(new Pass<Integer>(POSITIVE)).end(mSink);
+		mMixedUnfused = Stream.from(new Pass<Integer>(POSITIVE)).to(new Ignore<Integer>(0))
+				.to(new Changed<Integer>()).to(new Pass<Integer>(EVEN)).to(new Pass<Integer>(POSITIVE)).end(mSink);
+	}
+
+	private Integer next() {
+		mIndex = (mIndex + 1) & (EVENTS - 1);
+		return mEvents[mIndex];
+	}
+
+	@Benchmark
+	public void passes() {
+		mPasses.onEvent(next());
+	}
+
+	@Benchmark
+	public void mixed() {
+		mMixed.onEvent(next());
+	}
+
+	@Benchmark
+	public void passesUnfused() {
+		mPassesUnfused.onEvent(next());
+	}
+
+	@Benchmark
+	public void mixedUnfused() {
+		mMixedUnfused.onEvent(next());
+	}
+}
@@ -0,0 +1,22 @@
+package com.chalcodes.event.benchmarks;
+
+import com.chalcodes.event.Receiver;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A thread safe receiver that burns a fixed amount of CPU for each event.
+ *
+ * @author Kevin Krumwiede
+ */
+public class WorkingReceiver implements Receiver<Object> {
+	private final long mTokens;
+
+	public WorkingReceiver(final long tokens) {
+		mTokens = tokens;
+	}
+
+	@Override
+	public void onEvent(final Object event) {
+		Blackhole.consumeCPU(mTokens);
+	}
+}
@@ -0,0 +1,23 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * An op that can receive several events at once. Receiving a batch is
+ * equivalent to receiving each event in order, except that multicast ops may
+ * deliver the whole batch to one receiver before the next.
+ *
+ * @author Kevin Krumwiede
+ * @see BatchOps#deliver(Receiver, Object[], int, int)
+ */
+public interface BatchOp<I, O> extends Op<I, O> {
+	/**
+	 * Receives a slice of an array of events. The array is only valid for the
+	 * duration of the call. It must not be modified or retained.
+	 *
+	 * @param events the events
+	 * @param off the offset of the first event
+	 * @param len the number of events
+	 */
+	void onEvents(@Nonnull I[] events, int off, int len);
+}
@@ -0,0 +1,42 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Utility methods for delivering batches of events.
+ *
+ * @author Kevin Krumwiede
+ */
+public class BatchOps {
+	private BatchOps() {}
+
+	/**
+	 * Delivers a slice of an array of events to a receiver. If the receiver
+	 * is a {@link BatchOp} or a {@link BatchReceiver}, it receives the whole
+	 * slice in one call; otherwise it receives each event in order.
+	 *
+	 * @param receiver the receiver
+	 * @param events the events
+	 * @param off the offset of the first event
+	 * @param len the number of events
+	 * @param <E> the event type
+	 */
+	public static <E> void deliver(@Nonnull final Receiver<? super E> receiver,
+	                               @Nonnull final E[] events, final int off, final int len) {
+		if(len == 0) {
+			return;
+		}
+		if(receiver instanceof BatchOp) {
+			((BatchOp<? super E, ?>) receiver).onEvents(events, off, len);
+		}
+		else if(receiver instanceof BatchReceiver) {
+			((BatchReceiver<? super E>) receiver).onEvents(Arrays.asList(events).subList(off, off + len));
+		}
+		else {
+			for(int i = off, end = off + len; i < end; ++i) {
+				receiver.onEvent(events[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * A receiver that can receive several events at once. Emitters that support
+ * batching call {@link #onEvents(List)}; others call {@link #onEvent(Object)}
+ * for each event.
+ *
+ * @param <E> the event type
+ * @author Kevin Krumwiede
+ */
+public interface BatchReceiver<E> extends Receiver<E> {
+	/**
+	 * Receives a batch of events. The list is only valid for the duration
+	 * of the call. It must not be modified or retained.
+	 *
+	 * @param events the events, in the order they were emitted
+	 */
+	void onEvents(@Nonnull List<? extends E> events);
+}
@@ -0,0 +1,95 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps a fixed set of classes to dense integer ids and ops. Classes are
+ * registered up front, typically in static initializers of the event
+ * classes. Events that implement {@link IdentifiedEvent} are then routed to
+ * their ops by array index instead of by hash lookup.
+ * <p>
+ * This class is not thread safe. All classes should be registered before the
+ * map is shared with other threads.
+ *
+ * @author Kevin Krumwiede
+ * @see ClassOpMap
+ */
+public class ClassIdOpMap implements Receiver<IdentifiedEvent> {
+	private final OpFactory<?, ?> mOpFactory;
+	private final Map<Class<?>, Integer> mIds = new HashMap<Class<?>, Integer>();
+	private Op<?, ?>[] mOps = new Op<?, ?>[0];
+
+	public ClassIdOpMap(@Nonnull final OpFactory<?, ?> opFactory) {
+		mOpFactory = opFactory;
+	}
+
+	/**
+	 * Registers a class if it is not already registered, creating its op.
+	 *
+	 * @param klass the class
+	 * @return the id of the class
+	 */
+	public int register(@Nonnull final Class<?> klass) {
+		Integer id = mIds.get(klass);
+		if(id == null) {
+			id = mOps.length;
+			mOps = Arrays.copyOf(mOps, id + 1);
+			mOps[id] = mOpFactory.createOp();
+			mIds.put(klass, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the id of a class.
+	 *
+	 * @param klass the class
+	 * @return the id of the class, or -1 if it is not registered
+	 */
+	public int getId(@Nonnull final Class<?> klass) {
+		final Integer id = mIds.get(klass);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the op for a class id.
+	 *
+	 * @param id the class id
+	 * @param <E> the event type
+	 * @return the op
+	 * @throws ArrayIndexOutOfBoundsException if the id is not registered
+	 */
+	@Nonnull public <E> Op<E, E> getOp(final int id) {
+		@SuppressWarnings("unchecked") // the caller knows the class of the id
+		final Op<E, E> op = (Op<E, E>) mOps[id];
+		return op;
+	}
+
+	/**
+	 * Returns the op for a class, registering the class if necessary.
+	 *
+	 * @param klass the class
+	 * @param <E> the event type
+	 * @return the op
+	 */
+	@Nonnull public <E> Op<E, E> getOp(@Nonnull final Class<E> klass) {
+		return getOp(register(klass));
+	}
+
+	/**
+	 * Delivers an event to the op for its class id.
+	 *
+	 * @param event the event
+	 * @throws ArrayIndexOutOfBoundsException if the event's class id is not
+	 * registered
+	 */
+	@Override
+	public void onEvent(@Nonnull final IdentifiedEvent event) {
+		@SuppressWarnings("unchecked") // the op was created for the event's class
+		final Op<IdentifiedEvent, ?> op = (Op<IdentifiedEvent, ?>) mOps[event.getClassId()];
+		op.onEvent(event);
+	}
+}
@@ -7,9 +7,10 @@ import java.util.Map;
 /**
  * Maps classes to lazily initialized ops. This class is not thread safe.
  *
+ * @see ConcurrentClassOpMap
  * @author Kevin Krumwiede
  */
-public class ClassOpMap {
+public class ClassOpMap implements OpMap {
 	private final OpFactory mOpFactory;
 	private final Map<Class, Op> mCache = new HashMap<Class, Op>();
 
@@ -17,7 +18,9 @@ public class ClassOpMap {
 		mOpFactory = opFactory;
 	}
 
-	@Nonnull public <E> Op<E, E> getOp(@Nonnull Class<E> klass) {
+	@Nonnull
+	@Override
+	public <E> Op<E, E> getOp(@Nonnull Class<E> klass) {
 		Op op = mCache.get(klass);
 		if(op == null) {
 			op = mOpFactory.createOp();
@@ -0,0 +1,46 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A thread safe counterpart of {@link ClassOpMap}. Lookups of classes that have already been
+ * mapped read an immutable snapshot without locking. The first lookup of each
+ * class locks to create its op, so the op factory is called exactly once per
+ * class.
+ *
+ * @author Kevin Krumwiede
+ */
+public class ConcurrentClassOpMap implements OpMap {
+	private final OpFactory<?, ?> mOpFactory;
+	private volatile Map<Class<?>, Op<?, ?>> mSnapshot = Collections.emptyMap();
+
+	public ConcurrentClassOpMap(@Nonnull final OpFactory<?, ?> opFactory) {
+		mOpFactory = opFactory;
+	}
+
+	@Nonnull
+	@Override
+	public <E> Op<E, E> getOp(@Nonnull final Class<E> klass) {
+		Op<?, ?> op = mSnapshot.get(klass);
+		if(op == null) {
+			op = create(klass);
+		}
+		@SuppressWarnings("unchecked") // the op was created for this class
+		final Op<E, E> typed = (Op<E, E>) op;
+		return typed;
+	}
+
+	private synchronized Op<?, ?> create(final Class<?> klass) {
+		Op<?, ?> op = mSnapshot.get(klass);
+		if(op == null) {
+			op = mOpFactory.createOp();
+			final Map<Class<?>, Op<?, ?>> copy = new HashMap<Class<?>, Op<?, ?>>(mSnapshot);
+			copy.put(klass, op);
+			mSnapshot = copy;
+		}
+		return op;
+	}
+}
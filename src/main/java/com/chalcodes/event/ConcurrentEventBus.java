@@ -0,0 +1,71 @@
+package com.chalcodes.event;
+
+import com.chalcodes.util.AtomicArray;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * A thread safe synchronous multicast op. Receivers are stored in an
+ * immutable array that is replaced atomically when receivers are registered
+ * or unregistered, so any number of threads can deliver events concurrently
+ * without locking or allocation. Receivers may register and unregister
+ * themselves during delivery; changes take effect with the next event.
+ *
+ * @author Kevin Krumwiede
+ */
+public class ConcurrentEventBus<E> implements Op<E, E> {
+	private final AtomicArray<Receiver<? super E>> mReceivers = new AtomicArray<Receiver<? super E>>();
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+
+	public ConcurrentEventBus(@Nullable final ExceptionHandler<E> exceptionHandler) {
+		mExceptionHandler = exceptionHandler;
+	}
+
+	public ConcurrentEventBus() {
+		this(null);
+	}
+
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return mReceivers.add(receiver);
+	}
+
+	@Override
+	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		return mReceivers.remove(receiver);
+	}
+
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final Object[] receivers = mReceivers.snapshot();
+		deliver(receivers, 0, receivers.length, event);
+	}
+
+	/**
+	 * Returns the current receivers. The array must not be modified.
+	 */
+	Object[] receivers() {
+		return mReceivers.snapshot();
+	}
+
+	void deliver(final Object[] receivers, final int from, final int to, final E event) {
+		for(int i = from; i < to; ++i) {
+			@SuppressWarnings("unchecked") // only receivers are registered
+			final Receiver<? super E> receiver = (Receiver<? super E>) receivers[i];
+			dispatch(receiver, event);
+		}
+	}
+
+	void dispatch(final Receiver<? super E> receiver, final E event) {
+		try {
+			receiver.onEvent(event);
+		}
+		catch(RuntimeException e) {
+			if(mExceptionHandler == null) {
+				throw e;
+			}
+			mExceptionHandler.onException(this, receiver, event, e);
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package com.chalcodes.event;
+
+import com.chalcodes.util.CollectionFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A synchronous multicast op whose receivers are held in final fields. There
+ * are separate implementations for zero, one, two, and more receivers, so the
+ * JIT compiler can inline delivery when the bus is a constant.
+ * <p>
+ * Registering or unregistering a receiver thaws the bus: its receivers are
+ * copied into a collection created by the collection factory the bus was
+ * frozen with, that collection is wrapped in a {@link SimpleEventBus}, and
+ * all subsequent calls are delegated to that bus. A thawed bus is slower than
+ * a frozen one, so frozen buses are intended for receiver sets that rarely
+ * change after startup. This class is not thread safe.
+ *
+ * @author Kevin Krumwiede
+ */
+public abstract class FrozenEventBus<E> implements Op<E, E> {
+	@Nonnull private final CollectionFactory mCollectionFactory;
+	@Nonnull private final List<Receiver<? super E>> mReceivers;
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	@Nullable SimpleEventBus<E> mThawed;
+
+	private FrozenEventBus(@Nonnull final CollectionFactory collectionFactory,
+	                       @Nonnull final List<Receiver<? super E>> receivers,
+	                       @Nullable final ExceptionHandler<E> exceptionHandler) {
+		mCollectionFactory = collectionFactory;
+		mReceivers = receivers;
+		mExceptionHandler = exceptionHandler;
+	}
+
+	/**
+	 * Creates a frozen bus with the specified receivers. The receivers should
+	 * be a collection created by the specified factory, such as the collection
+	 * of a {@link SimpleEventBus}; the factory is used again if the bus is
+	 * thawed, so the thawed bus has the same registration semantics.
+	 *
+	 * @param collectionFactory the factory for the collection of a thawed bus
+	 * @param receivers the receivers, in delivery order
+	 * @param exceptionHandler the exception handler, or null
+	 * @param <E> the event type
+	 * @return a new frozen bus
+	 */
+	@Nonnull
+	public static <E> FrozenEventBus<E> freeze(@Nonnull final CollectionFactory collectionFactory,
+	                                           @Nonnull final Collection<? extends Receiver<? super E>> receivers,
+	                                           @Nullable final ExceptionHandler<E> exceptionHandler) {
+		final List<Receiver<? super E>> list = new ArrayList<Receiver<? super E>>(receivers);
+		switch(list.size()) {
+			case 0:
+				return new Empty<E>(collectionFactory, list, exceptionHandler);
+			case 1:
+				return new One<E>(collectionFactory, list, exceptionHandler);
+			case 2:
+				return new Two<E>(collectionFactory, list, exceptionHandler);
+			default:
+				return new Many<E>(collectionFactory, list, exceptionHandler);
+		}
+	}
+
+	private SimpleEventBus<E> thaw() {
+		if(mThawed == null) {
+			mThawed = new SimpleEventBus<E>(mCollectionFactory.createFrom(mReceivers), mExceptionHandler);
+		}
+		return mThawed;
+	}
+
+	/**
+	 * Thaws this bus and registers a receiver.
+	 *
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; otherwise false
+	 */
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return thaw().register(receiver);
+	}
+
+	/**
+	 * Thaws this bus and unregisters a receiver.
+	 *
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	@Override
+	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		return thaw().unregister(receiver);
+	}
+
+	final void dispatch(final Receiver<? super E> receiver, final E event) {
+		try {
+			receiver.onEvent(event);
+		}
+		catch(RuntimeException e) {
+			if(mExceptionHandler == null) {
+				throw e;
+			}
+			mExceptionHandler.onException(this, receiver, event, e);
+		}
+	}
+
+	private static final class Empty<E> extends FrozenEventBus<E> {
+		Empty(final CollectionFactory collectionFactory,
+		      final List<Receiver<? super E>> receivers,
+		      final ExceptionHandler<E> exceptionHandler) {
+			super(collectionFactory, receivers, exceptionHandler);
+		}
+
+		@Override
+		public void onEvent(@Nonnull final E event) {
+			if(mThawed != null) {
+				mThawed.onEvent(event);
+			}
+		}
+	}
+
+	private static final class One<E> extends FrozenEventBus<E> {
+		private final Receiver<? super E> mReceiver;
+
+		One(final CollectionFactory collectionFactory,
+		    final List<Receiver<? super E>> receivers,
+		    final ExceptionHandler<E> exceptionHandler) {
+			super(collectionFactory, receivers, exceptionHandler);
+			mReceiver = receivers.get(0);
+		}
+
+		@Override
+		public void onEvent(@Nonnull final E event) {
+			if(mThawed != null) {
+				mThawed.onEvent(event);
+				return;
+			}
+			dispatch(mReceiver, event);
+		}
+	}
+
+	private static final class Two<E> extends FrozenEventBus<E> {
+		private final Receiver<? super E> mFirst;
+		private final Receiver<? super E> mSecond;
+
+		Two(final CollectionFactory collectionFactory,
+		    final List<Receiver<? super E>> receivers,
+		    final ExceptionHandler<E> exceptionHandler) {
+			super(collectionFactory, receivers, exceptionHandler);
+			mFirst = receivers.get(0);
+			mSecond = receivers.get(1);
+		}
+
+		@Override
+		public void onEvent(@Nonnull final E event) {
+			if(mThawed != null) {
+				mThawed.onEvent(event);
+				return;
+			}
+			dispatch(mFirst, event);
+			dispatch(mSecond, event);
+		}
+	}
+
+	private static final class Many<E> extends FrozenEventBus<E> {
+		private final List<Receiver<? super E>> mMany;
+
+		Many(final CollectionFactory collectionFactory,
+		     final List<Receiver<? super E>> receivers,
+		     final ExceptionHandler<E> exceptionHandler) {
+			super(collectionFactory, receivers, exceptionHandler);
+			mMany = receivers;
+		}
+
+		@Override
+		public void onEvent(@Nonnull final E event) {
+			if(mThawed != null) {
+				mThawed.onEvent(event);
+				return;
+			}
+			for(int i = 0, n = mMany.size(); i < n; ++i) {
+				dispatch(mMany.get(i), event);
+			}
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Delivers each event to the ops in an {@link OpMap} for the event's
+ * class and all its superclasses and interfaces. Events are delivered to the
+ * op for the event's own class first, then to the ops for its superclasses
+ * from nearest to farthest, and then to the ops for its interfaces.
+ * <p>
+ * The ops for each event class are resolved on first use and cached, so
+ * subsequent events of that class are delivered with a single array walk.
+ * Resolving a class creates ops for all its supertypes in the map. This
+ * class is thread safe if the map is a {@link ConcurrentClassOpMap} or is not
+ * used by any other thread.
+ *
+ * @author Kevin Krumwiede
+ */
+public class HierarchyDispatcher implements Receiver<Object> {
+	private final OpMap mOpMap;
+	private volatile Map<Class<?>, Receiver<Object>[]> mCache = Collections.emptyMap();
+
+	public HierarchyDispatcher(@Nonnull final OpMap opMap) {
+		mOpMap = opMap;
+	}
+
+	@Override
+	public void onEvent(@Nonnull final Object event) {
+		Receiver<Object>[] ops = mCache.get(event.getClass());
+		if(ops == null) {
+			ops = resolve(event.getClass());
+		}
+		for(int i = 0; i < ops.length; ++i) {
+			ops[i].onEvent(event);
+		}
+	}
+
+	/* Each op is for a supertype of the class, so it accepts the class's events. */
+	@SuppressWarnings("unchecked")
+	private synchronized Receiver<Object>[] resolve(final Class<?> klass) {
+		Receiver<Object>[] ops = mCache.get(klass);
+		if(ops == null) {
+			final List<Class<?>> types = flatten(klass);
+			ops = (Receiver<Object>[]) new Receiver<?>[types.size()];
+			for(int i = 0; i < ops.length; ++i) {
+				ops[i] = (Receiver<Object>) mOpMap.getOp(types.get(i));
+			}
+			final Map<Class<?>, Receiver<Object>[]> copy = new HashMap<Class<?>, Receiver<Object>[]>(mCache);
+			copy.put(klass, ops);
+			mCache = copy;
+		}
+		return ops;
+	}
+
+	private static List<Class<?>> flatten(final Class<?> klass) {
+		final List<Class<?>> classes = new ArrayList<Class<?>>();
+		for(Class<?> c = klass; c != null; c = c.getSuperclass()) {
+			classes.add(c);
+		}
+		final Set<Class<?>> types = new LinkedHashSet<Class<?>>(classes);
+		for(final Class<?> c : classes) {
+			addInterfaces(c, types);
+		}
+		return new ArrayList<Class<?>>(types);
+	}
+
+	private static void addInterfaces(final Class<?> klass, final Set<Class<?>> types) {
+		for(final Class<?> i : klass.getInterfaces()) {
+			if(types.add(i)) {
+				addInterfaces(i, types);
+			}
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.chalcodes.event;
+
+/**
+ * An event that carries the id of its class in a {@link ClassIdOpMap}.
+ *
+ * @author Kevin Krumwiede
+ */
+public interface IdentifiedEvent {
+	/**
+	 * Returns the id of this event's class, as returned by {@link
+	 * ClassIdOpMap#register(Class)}.
+	 *
+	 * @return the class id
+	 */
+	int getClassId();
+}
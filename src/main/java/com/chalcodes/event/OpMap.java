@@ -0,0 +1,19 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Maps classes to lazily initialized ops.
+ *
+ * @author Kevin Krumwiede
+ */
+public interface OpMap {
+	/**
+	 * Returns the op for a class, creating it if necessary.
+	 *
+	 * @param klass the class
+	 * @param <E> the event type
+	 * @return the op
+	 */
+	@Nonnull <E> Op<E, E> getOp(@Nonnull Class<E> klass);
+}
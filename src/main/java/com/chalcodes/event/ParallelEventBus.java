@@ -0,0 +1,160 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread safe multicast op that delivers each event to chunks of its
+ * receivers in parallel. If the number of receivers does not exceed the
+ * inline threshold, the event is delivered on the calling thread. Otherwise,
+ * the first chunk is delivered on the calling thread and the remaining chunks
+ * are delivered in tasks submitted to the executor. Receivers must therefore
+ * be thread safe.
+ * <p>
+ * If this op is configured to wait, {@link #onEvent(Object)} does not return
+ * until every receiver has received the event, and an exception propagating
+ * from any receiver is rethrown on the calling thread. Otherwise, exceptions
+ * propagating from receivers in other threads are thrown in those threads.
+ * Either way, the exception handler is used if there is one.
+ * <p>
+ * Waiting blocks the calling thread on a latch until every submitted chunk
+ * has run. If events are published from a thread of a bounded executor that
+ * is also this op's executor, the chunks may be queued behind the blocked
+ * publishers and never run, deadlocking the executor. An op configured to
+ * wait should be given an executor whose threads never publish to it.
+ *
+ * @author Kevin Krumwiede
+ */
+public class ParallelEventBus<E> extends ConcurrentEventBus<E> {
+	@Nonnull private final Executor mExecutor;
+	private final int mChunkSize;
+	private final int mInlineThreshold;
+	private final boolean mWait;
+
+	/**
+	 * Creates a new parallel event bus.
+	 *
+	 * @param executor the executor for chunks other than the first
+	 * @param chunkSize the maximum number of receivers per chunk
+	 * @param inlineThreshold the maximum number of receivers to which an
+	 * event is delivered entirely on the calling thread; a threshold less
+	 * than the chunk size is treated as the chunk size
+	 * @param wait true if {@link #onEvent(Object)} should wait for all
+	 * receivers to receive each event
+	 * @param exceptionHandler the exception handler, or null
+	 * @throws IllegalArgumentException if chunkSize is less than 1 or
+	 * inlineThreshold is negative
+	 */
+	public ParallelEventBus(@Nonnull final Executor executor,
+	                        final int chunkSize,
+	                        final int inlineThreshold,
+	                        final boolean wait,
+	                        @Nullable final ExceptionHandler<E> exceptionHandler) {
+		super(exceptionHandler);
+		if(chunkSize < 1) {
+			throw new IllegalArgumentException("chunk size must be at least 1");
+		}
+		if(inlineThreshold < 0) {
+			throw new IllegalArgumentException("inline threshold must not be negative");
+		}
+		mExecutor = executor;
+		mChunkSize = chunkSize;
+		mInlineThreshold = Math.max(inlineThreshold, chunkSize);
+		mWait = wait;
+	}
+
+	/**
+	 * Creates a new parallel event bus whose inline threshold is the chunk
+	 * size.
+	 *
+	 * @param executor the executor for chunks other than the first
+	 * @param chunkSize the maximum number of receivers per chunk
+	 * @param wait true if {@link #onEvent(Object)} should wait for all
+	 * receivers to receive each event
+	 * @param exceptionHandler the exception handler, or null
+	 * @throws IllegalArgumentException if chunkSize is less than 1
+	 */
+	public ParallelEventBus(@Nonnull final Executor executor,
+	                        final int chunkSize,
+	                        final boolean wait,
+	                        @Nullable final ExceptionHandler<E> exceptionHandler) {
+		this(executor, chunkSize, chunkSize, wait, exceptionHandler);
+	}
+
+	/**
+	 * Delivers an event. If this method throws {@link
+	 * RejectedExecutionException}, the event may have been delivered to some
+	 * receivers but not others.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final Object[] receivers = receivers();
+		if(receivers.length <= mInlineThreshold) {
+			deliver(receivers, 0, receivers.length, event);
+			return;
+		}
+		final int tasks = (receivers.length - 1) / mChunkSize;
+		final CountDownLatch latch = mWait ? new CountDownLatch(tasks) : null;
+		final AtomicReference<RuntimeException> failure = mWait ? new AtomicReference<RuntimeException>() : null;
+		for(int from = mChunkSize; from < receivers.length; from += mChunkSize) {
+			final int start = from;
+			final int end = Math.min(from + mChunkSize, receivers.length);
+			mExecutor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						deliver(receivers, start, end, event);
+					}
+					catch(RuntimeException e) {
+						if(failure == null) {
+							throw e;
+						}
+						failure.compareAndSet(null, e);
+					}
+					finally {
+						if(latch != null) {
+							latch.countDown();
+						}
+					}
+				}
+			});
+		}
+		try {
+			deliver(receivers, 0, mChunkSize, event);
+		}
+		finally {
+			/* Wait even if the first chunk threw, so the guarantee holds. */
+			if(latch != null) {
+				await(latch);
+			}
+		}
+		if(failure != null) {
+			final RuntimeException e = failure.get();
+			if(e != null) {
+				throw e;
+			}
+		}
+	}
+
+	private static void await(final CountDownLatch latch) {
+		boolean interrupted = false;
+		while(true) {
+			try {
+				latch.await();
+				break;
+			}
+			catch(InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if(interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,286 @@
+package com.chalcodes.event;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An asynchronous multicast op backed by a preallocated ring buffer. Each
+ * receiver is driven by its own long-running task in the executor and tracks
+ * its own position in the buffer, so publication and delivery do not
+ * allocate. Any number of threads may publish concurrently. Publishers wait
+ * when the buffer is full, so a slow receiver slows down all publishers.
+ * <p>
+ * A receiver may be registered with dependencies on other receivers, in
+ * which case it does not receive each event until its dependencies have
+ * received it. The executor must have a thread available for each
+ * receiver. Events published concurrently with registration of a receiver
+ * may or may not be delivered to that receiver. The buffer retains
+ * references to events until their slots are reused.
+ *
+ * @author Kevin Krumwiede
+ */
+public class RingBufferBus<E> implements Op<E, E> {
+	/**
+	 * How publishers and receivers wait for the buffer.
+	 */
+	public enum WaitStrategy {
+		/** Spin without yielding. Lowest latency, but occupies a core. */
+		BUSY_SPIN {
+			@Override
+			void idle() {
+				/* Spin. */
+			}
+		},
+		/** Yield the thread between checks. */
+		YIELD {
+			@Override
+			void idle() {
+				Thread.yield();
+			}
+		},
+		/** Park the thread briefly between checks. */
+		PARK {
+			@Override
+			void idle() {
+				LockSupport.parkNanos(PARK_NANOS);
+			}
+		};
+
+		private static final long PARK_NANOS = 1000L;
+
+		abstract void idle();
+	}
+
+	private static final Consumer<?>[] NO_CONSUMERS = new Consumer<?>[0];
+	@Nonnull private final Executor mExecutor;
+	@Nonnull private final WaitStrategy mWaitStrategy;
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	private final Object[] mSlots;
+	private final AtomicLongArray mPublished;
+	private final int mMask;
+	private final AtomicLong mClaimed = new AtomicLong(-1);
+	/** A lower bound on the sequences of all consumers. */
+	private volatile long mGatingCache = -1;
+	private volatile Consumer<?>[] mConsumers = NO_CONSUMERS;
+
+	/**
+	 * Creates a new ring buffer bus.
+	 *
+	 * @param executor the executor in which receivers will run
+	 * @param capacity the buffer capacity; must be a power of two
+	 * @param waitStrategy the wait strategy
+	 * @param exceptionHandler the exception handler, or null
+	 * @throws IllegalArgumentException if capacity is not a power of two
+	 */
+	public RingBufferBus(@Nonnull final Executor executor,
+	                     final int capacity,
+	                     @Nonnull final WaitStrategy waitStrategy,
+	                     @Nullable final ExceptionHandler<E> exceptionHandler) {
+		if(capacity < 1 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity must be a power of two");
+		}
+		mExecutor = executor;
+		mWaitStrategy = waitStrategy;
+		mExceptionHandler = exceptionHandler;
+		mSlots = new Object[capacity];
+		mPublished = new AtomicLongArray(capacity);
+		for(int i = 0; i < capacity; ++i) {
+			mPublished.set(i, -1);
+		}
+		mMask = capacity - 1;
+	}
+
+	/**
+	 * Publishes an event to the buffer, waiting for a free slot if
+	 * necessary. If no receivers are registered, the event is discarded.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final long sequence = mClaimed.incrementAndGet();
+		final long wrap = sequence - mSlots.length;
+		if(wrap > mGatingCache) {
+			long gating;
+			while(wrap > (gating = minSequence())) {
+				mWaitStrategy.idle();
+			}
+			/* Never cache the sentinel for no consumers, or later consumers would not gate. */
+			if(gating != Long.MAX_VALUE) {
+				mGatingCache = gating;
+			}
+		}
+		final int index = (int) sequence & mMask;
+		mSlots[index] = event;
+		mPublished.lazySet(index, sequence);
+	}
+
+	/**
+	 * Returns the lowest consumer sequence, or {@link Long#MAX_VALUE} if there
+	 * are no consumers.
+	 */
+	private long minSequence() {
+		long min = Long.MAX_VALUE;
+		for(final Consumer<?> consumer : mConsumers) {
+			min = Math.min(min, consumer.mSequence.get());
+		}
+		return min;
+	}
+
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return register(receiver, new Receiver<?>[0]);
+	}
+
+	/**
+	 * Registers a receiver that receives each event only after the specified
+	 * receivers have received it.
+	 *
+	 * @param receiver the receiver to register
+	 * @param dependencies receivers already registered with this bus
+	 * @return true if the receiver was registered; otherwise false
+	 * @throws IllegalArgumentException if any dependency is not registered
+	 * @throws RejectedExecutionException if the executor rejects the
+	 * receiver's task, in which case the receiver is not registered
+	 */
+	public synchronized boolean register(@Nonnull final Receiver<? super E> receiver,
+	                                     @Nonnull final Receiver<?>... dependencies) {
+		if(find(receiver) != null) {
+			return false;
+		}
+		final Consumer<?>[] barrier = new Consumer<?>[dependencies.length];
+		for(int i = 0; i < dependencies.length; ++i) {
+			barrier[i] = find(dependencies[i]);
+			if(barrier[i] == null) {
+				throw new IllegalArgumentException("dependency is not registered");
+			}
+		}
+		final Consumer<E> consumer = new Consumer<E>(this, receiver, barrier);
+		/* Gate publishers conservatively, then skip anything claimed before they could see the new consumer. */
+		consumer.mSequence.set(mClaimed.get());
+		final Consumer<?>[] consumers = Arrays.copyOf(mConsumers, mConsumers.length + 1);
+		consumers[consumers.length - 1] = consumer;
+		mConsumers = consumers;
+		mGatingCache = -1;
+		consumer.mSequence.set(mClaimed.get());
+		try {
+			mExecutor.execute(consumer);
+		}
+		catch(RejectedExecutionException e) {
+			/* A consumer that never runs would block publishers forever. */
+			remove(consumer);
+			throw e;
+		}
+		return true;
+	}
+
+	/**
+	 * Unregisters a receiver. The receiver's task stops after delivering the
+	 * event in progress, if any. Receivers that depend on it stop waiting for
+	 * it.
+	 *
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	@Override
+	public synchronized boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		final Consumer<?> consumer = find(receiver);
+		if(consumer == null) {
+			return false;
+		}
+		consumer.mRunning = false;
+		remove(consumer);
+		return true;
+	}
+
+	private void remove(final Consumer<?> consumer) {
+		final Consumer<?>[] consumers = new Consumer<?>[mConsumers.length - 1];
+		int i = 0;
+		for(final Consumer<?> c : mConsumers) {
+			if(c != consumer) {
+				consumers[i++] = c;
+			}
+		}
+		mConsumers = consumers;
+	}
+
+	private Consumer<?> find(final Receiver<?> receiver) {
+		for(final Consumer<?> consumer : mConsumers) {
+			if(consumer.mReceiver.equals(receiver)) {
+				return consumer;
+			}
+		}
+		return null;
+	}
+
+	private static final class Consumer<E> implements Runnable {
+		final RingBufferBus<E> mBus;
+		final Receiver<? super E> mReceiver;
+		final Consumer<?>[] mBarrier;
+		final AtomicLong mSequence = new AtomicLong(-1);
+		volatile boolean mRunning = true;
+
+		Consumer(final RingBufferBus<E> bus, final Receiver<? super E> receiver, final Consumer<?>[] barrier) {
+			mBus = bus;
+			mReceiver = receiver;
+			mBarrier = barrier;
+		}
+
+		@Override
+		public void run() {
+			final Object[] slots = mBus.mSlots;
+			final int mask = mBus.mMask;
+			final WaitStrategy waitStrategy = mBus.mWaitStrategy;
+			try {
+				long next = mSequence.get() + 1;
+				while(mRunning) {
+					if(isAvailable(next)) {
+						@SuppressWarnings("unchecked") // only events are published
+						final E event = (E) slots[(int) next & mask];
+						dispatch(event);
+						mSequence.lazySet(next);
+						++next;
+					}
+					else {
+						waitStrategy.idle();
+					}
+				}
+			}
+			finally {
+				/* Release dependents. */
+				mSequence.set(Long.MAX_VALUE);
+			}
+		}
+
+		private boolean isAvailable(final long sequence) {
+			if(mBus.mPublished.get((int) sequence & mBus.mMask) != sequence) {
+				return false;
+			}
+			for(final Consumer<?> dependency : mBarrier) {
+				if(dependency.mSequence.get() < sequence) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void dispatch(final E event) {
+			try {
+				mReceiver.onEvent(event);
+			}
+			catch(RuntimeException e) {
+				if(mBus.mExceptionHandler == null) {
+					mBus.unregister(mReceiver);
+					throw e;
+				}
+				mBus.mExceptionHandler.onException(mBus, mReceiver, event, e);
+			}
+		}
+	}
+}
@@ -1,22 +1,38 @@
 package com.chalcodes.event;
 
+import com.chalcodes.util.ArraySnapshot;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 
 /**
- * A synchronous multicast op. This class is not thread safe.
+ * A synchronous multicast op. If the receiver collection implements {@link
+ * ArraySnapshot}, events are delivered without allocation.
+ * <p>
+ * A batch received by {@link #onEvents(Object[], int, int)} is delivered to
+ * each receiver in turn. Receivers that support batching receive the whole
+ * batch in one call. If such a receiver throws an exception, the exception
+ * handler is called with the first event of the batch, and the rest of the
+ * batch is not delivered to that receiver. Other receivers receive the batch
+ * one event at a time, and a receiver that is unregistered while receiving
+ * the batch receives none of its remaining events. This class is not thread
+ * safe.
  *
  * @author Kevin Krumwiede
  */
-public class SimpleEventBus<E> implements Op<E, E> {
+public class SimpleEventBus<E> implements BatchOp<E, E> {
 	@Nonnull private final Collection<Receiver<? super E>> mReceivers;
+	@Nullable private final ArraySnapshot mSnapshot;
 	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	/** Counts successful calls to {@link #unregister(Receiver)}. */
+	private int mUnregistrations;
 
 	public SimpleEventBus(@Nonnull final Collection<Receiver<? super E>> receivers,
 	                      @Nullable final ExceptionHandler<E> exceptionHandler) {
 		mReceivers = receivers;
+		mSnapshot = receivers instanceof ArraySnapshot ? (ArraySnapshot) receivers : null;
 		mExceptionHandler = exceptionHandler;
 	}
 
@@ -31,13 +47,44 @@ public class SimpleEventBus<E> implements Op<E, E> {
 
 	@Override
 	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
-		return mReceivers.remove(receiver);
+		if(mReceivers.remove(receiver)) {
+			++mUnregistrations;
+			return true;
+		}
+		return false;
 	}
 
 	@Override
 	public void onEvent(@Nonnull final E event) {
-		for(final Receiver<? super E> receiver : mReceivers) {
-			dispatch(receiver, event);
+		if(mSnapshot != null) {
+			final Object[] receivers = mSnapshot.snapshot();
+			for(int i = 0; i < receivers.length; ++i) {
+				@SuppressWarnings("unchecked") // the snapshot is of the receiver collection
+				final Receiver<? super E> receiver = (Receiver<? super E>) receivers[i];
+				dispatch(receiver, event);
+			}
+		}
+		else {
+			for(final Receiver<? super E> receiver : mReceivers) {
+				dispatch(receiver, event);
+			}
+		}
+	}
+
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		if(mSnapshot != null) {
+			final Object[] receivers = mSnapshot.snapshot();
+			for(int i = 0; i < receivers.length; ++i) {
+				@SuppressWarnings("unchecked") // the snapshot is of the receiver collection
+				final Receiver<? super E> receiver = (Receiver<? super E>) receivers[i];
+				dispatchAll(receiver, events, off, len);
+			}
+		}
+		else {
+			for(final Receiver<? super E> receiver : mReceivers) {
+				dispatchAll(receiver, events, off, len);
+			}
 		}
 	}
 
@@ -52,4 +99,28 @@ public class SimpleEventBus<E> implements Op<E, E> {
 			mExceptionHandler.onException(this, receiver, event, e);
 		}
 	}
+
+	private void dispatchAll(final Receiver<? super E> receiver, final E[] events, final int off, final int len) {
+		if(receiver instanceof BatchOp || receiver instanceof BatchReceiver) {
+			try {
+				BatchOps.deliver(receiver, events, off, len);
+			}
+			catch(RuntimeException e) {
+				if(mExceptionHandler == null) {
+					throw e;
+				}
+				mExceptionHandler.onException(this, receiver, events[off], e);
+			}
+		}
+		else {
+			final int unregistrations = mUnregistrations;
+			for(int i = off, end = off + len; i < end; ++i) {
+				dispatch(receiver, events[i]);
+				/* Stop if the receiver or its exception handler unregistered it. */
+				if(mUnregistrations != unregistrations && !mReceivers.contains(receiver)) {
+					return;
+				}
+			}
+		}
+	}
 }
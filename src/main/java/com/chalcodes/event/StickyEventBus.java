@@ -38,6 +38,14 @@ public class StickyEventBus<E> extends SimpleEventBus<E> implements StickyOp<E,
 		super.onEvent(event);
 	}
 
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		if(len > 0) {
+			mEvent = events[off + len - 1];
+		}
+		super.onEvents(events, off, len);
+	}
+
 	@Override
 	public void removeEvents() {
 		mEvent = null;
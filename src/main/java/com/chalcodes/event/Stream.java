@@ -12,6 +12,11 @@ import java.util.concurrent.Executor;
 /**
  * Fluent builders for sequences of emitters, ops, and receivers. Builders are
  * not thread safe.
+ * <p>
+ * Consecutive {@link Pass}, {@link Ignore}, and {@link Changed} stages added
+ * with the convenience methods are fused into a single {@link Fused} op,
+ * since those ops are never exposed to the caller. Ops added with {@code
+ * to(Op)} are never fused.
  *
  * @author Kevin Krumwiede
  */
@@ -40,7 +45,7 @@ public class Stream {
 	}
 
 	public static <E> OpBuilder<E, E> changed() {
-		return from(new Changed<E>());
+		return new OpBuilder<E, E>(Fused.<E>create().changed());
 	}
 
 	public static <E> OpBuilder<E, E> debounce(final long intervalNanos) {
@@ -52,11 +57,11 @@ public class Stream {
 	}
 
 	public static <E> OpBuilder<E, E> ignore(final int count) {
-		return from(new Ignore<E>(count));
+		return new OpBuilder<E, E>(Fused.<E>create().ignore(count));
 	}
 
 	public static <E> OpBuilder<E, E> pass(@Nonnull final Filter<E> filter) {
-		return from(new Pass<E>(filter));
+		return new OpBuilder<E, E>(Fused.<E>create().pass(filter));
 	}
 
 	public static <E> OpBuilder<E, E> queueOn(@Nonnull final Executor executor) {
@@ -72,13 +77,20 @@ public class Stream {
 	 * @param <O> the emitter event type
 	 */
 	public static class EmitterBuilder<O> {
+		/** Null only if the stream begins with a pending fused op. */
 		Emitter<O> mTail;
+		/** Stages that have not yet been attached to the tail. */
+		Fused<O> mPending;
 		private boolean mTerminated;
 
 		private EmitterBuilder(@Nonnull final Emitter<O> emitter) {
 			mTail = emitter;
 		}
 
+		private EmitterBuilder(@Nonnull final Fused<O> pending) {
+			mPending = pending;
+		}
+
 		private void checkTerminated() {
 			if(mTerminated) {
 				throw new IllegalStateException("this builder has already been terminated");
@@ -91,11 +103,31 @@ public class Stream {
 		}
 
 		private void append(@Nonnull final Receiver<O> receiver) {
+			flush();
 			if(!mTail.register(receiver)) {
 				throw new IllegalStateException("the receiver could not be registered");
 			}
 		}
 
+		/**
+		 * Attaches any pending fused stages to the tail.
+		 */
+		void flush() {
+			if(mPending != null) {
+				final Fused<O> pending = mPending;
+				mPending = null;
+				if(mTail != null && !mTail.register(pending)) {
+					throw new IllegalStateException("the receiver could not be registered");
+				}
+				mTail = pending;
+			}
+		}
+
+		private Fused<O> pending() {
+			checkTerminated();
+			return mPending == null ? Fused.<O>create() : mPending;
+		}
+
 		/* General methods. */
 
 		public <X> EmitterBuilder<X> to(@Nonnull final Op<O, X> op) {
@@ -119,6 +151,7 @@ public class Stream {
 
 		public Emitter<O> end() {
 			terminate();
+			flush();
 			return mTail;
 		}
 
@@ -133,7 +166,8 @@ public class Stream {
 		}
 
 		public EmitterBuilder<O> changed() {
-			return to(new Changed<O>());
+			mPending = pending().changed();
+			return this;
 		}
 
 		public EmitterBuilder<O> debounce(final long intervalNanos) {
@@ -145,11 +179,13 @@ public class Stream {
 		}
 
 		public EmitterBuilder<O> ignore(final int count) {
-			return to(new Ignore<O>(count));
+			mPending = pending().ignore(count);
+			return this;
 		}
 
 		public EmitterBuilder<O> pass(@Nonnull final Filter<O> filter) {
-			return to(new Pass<O>(filter));
+			mPending = pending().pass(filter);
+			return this;
 		}
 
 		public EmitterBuilder<O> queueOn(@Nonnull final Executor executor) { return to(new QueueOn<O>(executor)); }
@@ -166,13 +202,29 @@ public class Stream {
 	 */
 	public static class OpBuilder<I, O> extends EmitterBuilder<O> {
 		// parameterized this way because O changes with mTail.
-		private final Op<I, ?> mHead;
+		// null only until a pending fused head is flushed.
+		private Op<I, ?> mHead;
 
 		private OpBuilder(@Nonnull final Op<I, O> op) {
 			super(op);
 			mHead = op;
 		}
 
+		private OpBuilder(@Nonnull final Fused<O> pending) {
+			super(pending);
+		}
+
+		@Override
+		void flush() {
+			final boolean headless = mHead == null;
+			super.flush();
+			if(headless) {
+				@SuppressWarnings("unchecked") // I is O when the head is fused
+				final Op<I, ?> head = (Op<I, ?>) mTail;
+				mHead = head;
+			}
+		}
+
 		/* General methods. */
 
 		@Override
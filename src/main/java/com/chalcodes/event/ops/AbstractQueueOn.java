@@ -0,0 +1,160 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.AbstractAsyncEmitter;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.StickyOp;
+
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Abstract base class for ops that queue events to be delivered in an
+ * executor. Subclasses decide how events are added to the queue.
+ * <p>
+ * By default, the drain task runs until the queue is empty. If a budget is
+ * set, the task yields its thread after delivering the maximum number of
+ * events or running for the maximum time, and resubmits itself to the
+ * executor. This prevents a busy queue from starving other tasks that share
+ * the executor.
+ *
+ * @author Kevin Krumwiede
+ */
+abstract public class AbstractQueueOn<E> extends AbstractAsyncEmitter<E> implements StickyOp<E, E> {
+	/** How many events to deliver between checks of the time budget. */
+	private static final int TIME_CHECK_INTERVAL = 64;
+	@Nonnull protected final Queue<E> mQueue;
+	private final AtomicInteger mCounter = new AtomicInteger();
+	private final int mMaxEventsPerRun;
+	private final long mMaxNanosPerRun;
+
+	protected AbstractQueueOn(@Nonnull final Executor executor, @Nonnull final Queue<E> queue) {
+		this(executor, queue, Integer.MAX_VALUE, 0);
+	}
+
+	/**
+	 * Creates a new queue op with a drain budget.
+	 *
+	 * @param executor the executor
+	 * @param queue the queue
+	 * @param maxEventsPerRun the maximum number of events to deliver before
+	 * resubmitting the drain task
+	 * @param maxNanosPerRun the maximum time to deliver events before
+	 * resubmitting the drain task, or 0 for no limit
+	 * @throws IllegalArgumentException if maxEventsPerRun is less than 1 or
+	 * maxNanosPerRun is negative
+	 */
+	protected AbstractQueueOn(@Nonnull final Executor executor,
+	                          @Nonnull final Queue<E> queue,
+	                          final int maxEventsPerRun,
+	                          final long maxNanosPerRun) {
+		super(executor);
+		if(maxEventsPerRun < 1) {
+			throw new IllegalArgumentException("max events per run must be at least 1");
+		}
+		if(maxNanosPerRun < 0) {
+			throw new IllegalArgumentException("max nanos per run must not be negative");
+		}
+		mQueue = queue;
+		mMaxEventsPerRun = maxEventsPerRun;
+		mMaxNanosPerRun = maxNanosPerRun;
+	}
+
+	/**
+	 * Executes a task to drain the queue to the current receiver, if a
+	 * receiver is registered and such a task is not already running or
+	 * pending. This method is <em>not</em> called when a receiver is
+	 * registered. If this method throws {@link RejectedExecutionException},
+	 * events remain in the queue for possible delivery the next time this
+	 * method is called. Whether this condition is recoverable depends on the
+	 * executor.
+	 */
+	public void drain() {
+		final Receiver<? super E> receiver = mReceiver;
+		// see http://akarnokd.blogspot.com/2015/05/operator-concurrency-primitives_11.html
+		if(receiver != null && mCounter.getAndIncrement() == 0) {
+			execute(new Runnable() {
+				@Override
+				public void run() {
+					final long start = mMaxNanosPerRun == 0 ? 0 : System.nanoTime();
+					final int step = mMaxNanosPerRun == 0 ? mMaxEventsPerRun : Math.min(mMaxEventsPerRun, TIME_CHECK_INTERVAL);
+					int budget = mMaxEventsPerRun;
+					do {
+						mCounter.set(1);
+						try {
+							int delivered;
+							while((delivered = deliverQueued(receiver, Math.min(budget, step))) > 0) {
+								budget -= delivered;
+								if(budget <= 0 || (mMaxNanosPerRun != 0 && System.nanoTime() - start >= mMaxNanosPerRun)) {
+									/* Counter remains non-zero, so no other task can start. */
+									execute(this);
+									return;
+								}
+							}
+						}
+						catch(RuntimeException e) {
+							mCounter.set(0);
+							throw e;
+						}
+					}
+					while(mCounter.decrementAndGet() != 0);
+				}
+			});
+		}
+	}
+
+	private void execute(final Runnable task) {
+		try {
+			mExecutor.execute(task);
+		}
+		catch(RejectedExecutionException e) {
+			mCounter.set(0);
+			throw e;
+		}
+	}
+
+	/**
+	 * Delivers up to the specified number of queued events to a receiver.
+	 * This is called in the executor, never concurrently with itself.
+	 *
+	 * @param receiver the receiver
+	 * @param maxEvents the maximum number of events to deliver
+	 * @return the number of events delivered; 0 if the queue was empty
+	 */
+	protected int deliverQueued(@Nonnull final Receiver<? super E> receiver, final int maxEvents) {
+		int count = 0;
+		E event;
+		while(count < maxEvents && (event = mQueue.poll()) != null) {
+			++count;
+			receiver.onEvent(event);
+		}
+		return count;
+	}
+
+	/**
+	 * Removes all queued events. This is called by {@link #removeEvents()}
+	 * only when no drain task is running or pending.
+	 */
+	protected void clearQueued() {
+		mQueue.clear();
+	}
+
+	/**
+	 * Returns the approximate number of queued events.
+	 *
+	 * @return the queue depth
+	 */
+	public int getDepth() {
+		return mQueue.size();
+	}
+
+	@Override
+	public void removeEvents() {
+		if(mCounter.getAndIncrement() == 0) {
+			clearQueued();
+			mCounter.set(0);
+		}
+	}
+}
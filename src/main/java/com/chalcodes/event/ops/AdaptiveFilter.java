@@ -0,0 +1,142 @@
+package com.chalcodes.event.ops;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Combines filters with AND or OR semantics and periodically reorders them
+ * to minimize the expected cost of each test. A sample of events is tested
+ * against every filter to measure each filter's cost and pass rate. Filters
+ * are then ordered by cost per decisive result: for AND, cost divided by the
+ * rejection rate; for OR, cost divided by the pass rate. Statistics decay
+ * after each reordering so the order can follow changes in the event
+ * stream.
+ * <p>
+ * Because sampled events are tested against every filter, filters should
+ * not have side effects. The combined filter is thread safe if all its
+ * constituent filters are thread safe; concurrent sampling may make the
+ * statistics slightly inaccurate, but never the results.
+ *
+ * @author Kevin Krumwiede
+ */
+final class AdaptiveFilter<E> implements Filter<E> {
+	private static final int SAMPLE_MASK = 63;
+	private static final int SAMPLES_PER_REORDER = 64;
+	/** Avoids division by zero for filters that never decide the result. */
+	private static final double MIN_RATE = 1e-3;
+	private final boolean mAll;
+	private volatile Entry<E>[] mOrder;
+	private int mCount;
+	private final AtomicInteger mSamples = new AtomicInteger();
+
+	AdaptiveFilter(@Nonnull final Collection<? extends Filter<? super E>> filters, final boolean all) {
+		mAll = all;
+		final Entry<E>[] order = newArray(filters.size());
+		int i = 0;
+		for(final Filter<? super E> filter : filters) {
+			order[i++] = new Entry<E>(filter);
+		}
+		mOrder = order;
+	}
+
+	@Override
+	public boolean matches(@Nonnull final E event) {
+		/* Racy increment is fine; it only controls sampling frequency. */
+		if((++mCount & SAMPLE_MASK) == 0) {
+			return sample(event);
+		}
+		final Entry<E>[] order = mOrder;
+		for(int i = 0; i < order.length; ++i) {
+			if(order[i].mFilter.matches(event) != mAll) {
+				return !mAll;
+			}
+		}
+		return mAll;
+	}
+
+	private boolean sample(final E event) {
+		boolean result = mAll;
+		for(final Entry<E> entry : mOrder) {
+			final long start = System.nanoTime();
+			final boolean matched = entry.mFilter.matches(event);
+			entry.record(System.nanoTime() - start, matched);
+			if(matched != mAll) {
+				result = !mAll;
+			}
+		}
+		if(mSamples.incrementAndGet() % SAMPLES_PER_REORDER == 0) {
+			reorder();
+		}
+		return result;
+	}
+
+	/**
+	 * Concurrent samplers may reorder at the same time, so the scores are
+	 * computed into a local array and a fresh order is published rather than
+	 * sorting entries by a shared field.
+	 */
+	private void reorder() {
+		final Entry<E>[] current = mOrder;
+		final int n = current.length;
+		final double[] scores = new double[n];
+		final Integer[] indices = new Integer[n];
+		for(int i = 0; i < n; ++i) {
+			scores[i] = current[i].score(mAll);
+			current[i].decay();
+			indices[i] = i;
+		}
+		Arrays.sort(indices, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer a, final Integer b) {
+				return Double.compare(scores[a], scores[b]);
+			}
+		});
+		final Entry<E>[] order = newArray(n);
+		for(int i = 0; i < n; ++i) {
+			order[i] = current[indices[i]];
+		}
+		mOrder = order;
+	}
+
+	@SuppressWarnings("unchecked") // generic array creation; entries are always Entry<E>
+	private static <E> Entry<E>[] newArray(final int size) {
+		return (Entry<E>[]) new Entry<?>[size];
+	}
+
+	private static final class Entry<E> {
+		final Filter<? super E> mFilter;
+		final AtomicLong mEvaluations = new AtomicLong();
+		final AtomicLong mPasses = new AtomicLong();
+		final AtomicLong mNanos = new AtomicLong();
+
+		Entry(final Filter<? super E> filter) {
+			mFilter = filter;
+		}
+
+		void record(final long nanos, final boolean passed) {
+			mEvaluations.incrementAndGet();
+			mNanos.addAndGet(nanos);
+			if(passed) {
+				mPasses.incrementAndGet();
+			}
+		}
+
+		double score(final boolean all) {
+			final long evaluations = Math.max(1, mEvaluations.get());
+			final double cost = (double) mNanos.get() / evaluations;
+			final double passRate = (double) mPasses.get() / evaluations;
+			final double decisiveRate = all ? 1 - passRate : passRate;
+			return cost / Math.max(decisiveRate, MIN_RATE);
+		}
+
+		void decay() {
+			mEvaluations.set(mEvaluations.get() / 2);
+			mPasses.set(mPasses.get() / 2);
+			mNanos.set(mNanos.get() / 2);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchReceiver;
+import com.chalcodes.event.Receiver;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscLinkedQueue;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues events to be delivered in batches in an executor. If the receiver
+ * is a {@link BatchReceiver}, it receives up to a maximum number of events
+ * per call. Otherwise, events are delivered one at a time.
+ * <p>
+ * If the maximum latency is greater than zero, the drain task waits up to
+ * that long for a partial batch to fill before delivering it. This trades
+ * latency and executor time for larger batches.
+ *
+ * @author Kevin Krumwiede
+ */
+public final class BatchQueueOn<E> extends AbstractQueueOn<E> implements BatchOp<E, E> {
+	private static final long LINGER_PARK_NANOS = 1000L;
+	private final MessagePassingQueue<E> mMessageQueue;
+	private final int mMaxBatchSize;
+	private final long mMaxLatencyNanos;
+	private final ArrayList<E> mBatch;
+	private final List<E> mBatchView;
+	/** The number of events left in the batch by a receiver that threw. */
+	private volatile int mUndelivered;
+	private final MessagePassingQueue.Consumer<E> mFiller = new MessagePassingQueue.Consumer<E>() {
+		@Override
+		public void accept(final E event) {
+			mBatch.add(event);
+		}
+	};
+
+	/**
+	 * Creates a new batch queue op.
+	 *
+	 * @param executor the executor
+	 * @param maxBatchSize the maximum number of events per batch
+	 * @param maxLatencyNanos the maximum time to wait for a batch to fill
+	 * @throws IllegalArgumentException if maxBatchSize is less than 1 or
+	 * maxLatencyNanos is negative
+	 */
+	public BatchQueueOn(@Nonnull final Executor executor, final int maxBatchSize, final long maxLatencyNanos) {
+		this(executor, MpscLinkedQueue.<E>newMpscLinkedQueue(), maxBatchSize, maxLatencyNanos);
+	}
+
+	private BatchQueueOn(final Executor executor, final MpscLinkedQueue<E> queue, final int maxBatchSize, final long maxLatencyNanos) {
+		super(executor, queue);
+		if(maxBatchSize < 1) {
+			throw new IllegalArgumentException("max batch size must be at least 1");
+		}
+		if(maxLatencyNanos < 0) {
+			throw new IllegalArgumentException("max latency must not be negative");
+		}
+		mMessageQueue = queue;
+		mMaxBatchSize = maxBatchSize;
+		mMaxLatencyNanos = maxLatencyNanos;
+		mBatch = new ArrayList<E>(maxBatchSize);
+		mBatchView = Collections.unmodifiableList(mBatch);
+	}
+
+	/**
+	 * Queues an event and calls {@link #drain()}.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		mQueue.add(event);
+		drain();
+	}
+
+	/**
+	 * Queues a batch of events and calls {@link #drain()} once. The events
+	 * are linked together before they are added to the queue, so the batch
+	 * costs one atomic operation on the queue instead of one per event.
+	 *
+	 * @param events the events
+	 * @param off the offset of the first event
+	 * @param len the number of events
+	 */
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		if(off < 0 || len < 0 || off > events.length - len) {
+			throw new IndexOutOfBoundsException();
+		}
+		mMessageQueue.fill(new MessagePassingQueue.Supplier<E>() {
+			private int mIndex = off;
+
+			@Override
+			public E get() {
+				final E event = events[mIndex++];
+				if(event == null) {
+					throw new NullPointerException();
+				}
+				return event;
+			}
+		}, len);
+		drain();
+	}
+
+	/**
+	 * Delivers the events left in the batch by a receiver that threw, then
+	 * new batches from the queue.
+	 */
+	@Override
+	protected int deliverQueued(@Nonnull final Receiver<? super E> receiver, final int maxEvents) {
+		int count = 0;
+		while(count < maxEvents) {
+			if(mBatch.isEmpty()) {
+				final int filled = mMessageQueue.drain(mFiller, Math.min(mMaxBatchSize, maxEvents - count));
+				if(filled == 0) {
+					break;
+				}
+				if(mMaxLatencyNanos > 0 && filled < mMaxBatchSize && filled < maxEvents - count) {
+					linger(Math.min(mMaxBatchSize, maxEvents - count));
+				}
+			}
+			count += deliverBatch(receiver);
+		}
+		return count;
+	}
+
+	private void linger(final int size) {
+		final long deadline = System.nanoTime() + mMaxLatencyNanos;
+		while(mBatch.size() < size && deadline - System.nanoTime() > 0) {
+			if(mMessageQueue.drain(mFiller, size - mBatch.size()) == 0) {
+				LockSupport.parkNanos(LINGER_PARK_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * Delivers the batch and removes the delivered events from it. If the
+	 * receiver throws, the event it threw on counts as delivered, as in
+	 * {@link QueueOn}, and the rest of the batch is kept for the next run.
+	 * A {@link BatchReceiver} consumes the whole batch even if it throws.
+	 *
+	 * @return the number of events in the batch
+	 */
+	private int deliverBatch(final Receiver<? super E> receiver) {
+		final int size = mBatch.size();
+		int delivered = 0;
+		try {
+			if(receiver instanceof BatchReceiver) {
+				delivered = size;
+				((BatchReceiver<? super E>) receiver).onEvents(mBatchView);
+			}
+			else {
+				while(delivered < size) {
+					receiver.onEvent(mBatch.get(delivered++));
+				}
+			}
+		}
+		finally {
+			if(delivered == size) {
+				mBatch.clear();
+			}
+			else {
+				mBatch.subList(0, delivered).clear();
+			}
+			mUndelivered = mBatch.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the approximate number of queued events, including any left in
+	 * the batch by a receiver that threw.
+	 *
+	 * @return the queue depth
+	 */
+	@Override
+	public int getDepth() {
+		return super.getDepth() + mUndelivered;
+	}
+
+	@Override
+	protected void clearQueued() {
+		super.clearQueued();
+		mBatch.clear();
+		mUndelivered = 0;
+	}
+}
@@ -0,0 +1,136 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.Receiver;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * Accumulates events in a buffer local to each publishing thread and
+ * delivers them to a {@link BatchOp} in batches. This is intended as a front
+ * end for a {@link QueueOn} shared by many producers, which can queue a batch
+ * with one atomic operation on the queue and one on its drain counter.
+ * <p>
+ * A thread's buffer is flushed when it reaches the maximum batch size, when
+ * the thread publishes an event and the oldest buffered event has waited for
+ * at least the maximum delay, or when the thread calls {@link #flush()}. There
+ * is no timer; events buffered by a thread that stops publishing are not
+ * delivered until it calls {@code flush()}, so producers should flush before
+ * going idle. The target must not synchronously publish events back to this
+ * publisher on the same thread.
+ *
+ * @author Kevin Krumwiede
+ */
+public class BatchingPublisher<E> implements Receiver<E> {
+	private final BatchOp<E, ?> mTarget;
+	private final Class<E> mEventType;
+	private final int mMaxBatchSize;
+	private final long mMaxDelayNanos;
+	private final ThreadLocal<Buffer<E>> mBuffers = new ThreadLocal<Buffer<E>>() {
+		@Override
+		@SuppressWarnings("unchecked") // the array is created with component type E
+		protected Buffer<E> initialValue() {
+			return new Buffer<E>((E[]) Array.newInstance(mEventType, mMaxBatchSize));
+		}
+	};
+
+	/**
+	 * Creates a new batching publisher.
+	 *
+	 * @param target the op that receives batches
+	 * @param eventType the event type, which is the component type of the
+	 * arrays passed to the target
+	 * @param maxBatchSize the maximum number of events per batch
+	 * @param maxDelayNanos the maximum time an event may be buffered before
+	 * it is flushed by a subsequent event, or 0 for no limit
+	 * @throws IllegalArgumentException if maxBatchSize is less than 1 or
+	 * maxDelayNanos is negative
+	 */
+	public BatchingPublisher(@Nonnull final BatchOp<E, ?> target,
+	                         @Nonnull final Class<E> eventType,
+	                         final int maxBatchSize,
+	                         final long maxDelayNanos) {
+		if(maxBatchSize < 1) {
+			throw new IllegalArgumentException("max batch size must be at least 1");
+		}
+		if(maxDelayNanos < 0) {
+			throw new IllegalArgumentException("max delay must not be negative");
+		}
+		mTarget = target;
+		mEventType = eventType;
+		mMaxBatchSize = maxBatchSize;
+		mMaxDelayNanos = maxDelayNanos;
+	}
+
+	/**
+	 * Buffers an event, flushing the calling thread's buffer if it is full or
+	 * its oldest event has waited for at least the maximum delay.
+	 *
+	 * @param event the event
+	 * @throws NullPointerException if the event is null
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		if(event == null) {
+			throw new NullPointerException();
+		}
+		final Buffer<E> buffer = mBuffers.get();
+		if(mMaxDelayNanos == 0) {
+			buffer.mEvents[buffer.mSize++] = event;
+			if(buffer.mSize == mMaxBatchSize) {
+				flush(buffer);
+			}
+		}
+		else {
+			final long now = System.nanoTime();
+			if(buffer.mSize == 0) {
+				buffer.mFirstNanos = now;
+			}
+			buffer.mEvents[buffer.mSize++] = event;
+			if(buffer.mSize == mMaxBatchSize || now - buffer.mFirstNanos >= mMaxDelayNanos) {
+				flush(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Delivers the events buffered by the calling thread.
+	 */
+	public void flush() {
+		flush(mBuffers.get());
+	}
+
+	private void flush(final Buffer<E> buffer) {
+		final int size = buffer.mSize;
+		if(size > 0) {
+			buffer.mSize = 0;
+			try {
+				mTarget.onEvents(buffer.mEvents, 0, size);
+			}
+			finally {
+				Arrays.fill(buffer.mEvents, 0, size, null);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of events buffered by the calling thread.
+	 *
+	 * @return the number of buffered events
+	 */
+	public int getBufferedCount() {
+		return mBuffers.get().mSize;
+	}
+
+	private static final class Buffer<E> {
+		final E[] mEvents;
+		int mSize;
+		long mFirstNanos;
+
+		Buffer(final E[] events) {
+			mEvents = events;
+		}
+	}
+}
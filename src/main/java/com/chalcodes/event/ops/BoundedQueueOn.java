@@ -0,0 +1,109 @@
+package com.chalcodes.event.ops;
+
+import org.jctools.queues.MpmcArrayQueue;
+import org.jctools.queues.MpscArrayQueue;
+
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Queues events to be delivered in an executor, using a bounded queue. What
+ * happens when the queue is full depends on the {@link Overflow} policy.
+ *
+ * @author Kevin Krumwiede
+ */
+public final class BoundedQueueOn<E> extends AbstractQueueOn<E> {
+	/**
+	 * Policies for handling events that arrive when the queue is full.
+	 */
+	public enum Overflow {
+		/** Discard the new event. */
+		DROP_NEWEST,
+		/** Discard the oldest queued event to make room for the new event. */
+		DROP_OLDEST,
+		/**
+		 * Wait for room in the queue. The drain task must be able to run
+		 * while the caller waits, so this policy must not be used if events
+		 * can be received in the executor's only thread, or if the op may
+		 * have no receiver.
+		 */
+		BLOCK,
+		/** Throw {@link IllegalStateException}. */
+		THROW
+	}
+
+	private static final long BLOCK_PARK_NANOS = 1000L;
+	private final Overflow mOverflow;
+	private final AtomicLong mDropCount = new AtomicLong();
+
+	/**
+	 * Creates a new bounded queue op.
+	 *
+	 * @param executor the executor
+	 * @param capacity the minimum queue capacity; the actual capacity is the
+	 * next power of two
+	 * @param overflow the overflow policy
+	 */
+	public BoundedQueueOn(@Nonnull final Executor executor, final int capacity, @Nonnull final Overflow overflow) {
+		super(executor, BoundedQueueOn.<E>createQueue(capacity, overflow));
+		mOverflow = overflow;
+	}
+
+	private static <E> Queue<E> createQueue(final int capacity, final Overflow overflow) {
+		/* Dropping the oldest event means producers must be able to poll. */
+		if(overflow == Overflow.DROP_OLDEST) {
+			return new MpmcArrayQueue<E>(Math.max(capacity, 2));
+		}
+		return new MpscArrayQueue<E>(capacity);
+	}
+
+	/**
+	 * Queues an event according to the overflow policy and calls {@link
+	 * #drain()}.
+	 *
+	 * @param event the event
+	 * @throws IllegalStateException if the queue is full and the overflow
+	 * policy is {@link Overflow#THROW}
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		if(!mQueue.offer(event)) {
+			switch(mOverflow) {
+				case DROP_NEWEST:
+					mDropCount.incrementAndGet();
+					break;
+				case DROP_OLDEST:
+					do {
+						if(mQueue.poll() != null) {
+							mDropCount.incrementAndGet();
+						}
+					}
+					while(!mQueue.offer(event));
+					break;
+				case BLOCK:
+					do {
+						drain();
+						LockSupport.parkNanos(BLOCK_PARK_NANOS);
+					}
+					while(!mQueue.offer(event));
+					break;
+				case THROW:
+					throw new IllegalStateException("queue full");
+			}
+		}
+		drain();
+	}
+
+	/**
+	 * Returns the number of events that have been dropped because the queue
+	 * was full.
+	 *
+	 * @return the drop count
+	 */
+	public long getDropCount() {
+		return mDropCount.get();
+	}
+}
@@ -1,16 +1,19 @@
 package com.chalcodes.event.ops;
 
 import com.chalcodes.event.AbstractEmitter;
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchOps;
 import com.chalcodes.event.StickyOp;
 
 import javax.annotation.Nonnull;
 
 /**
- * Delivers events that are not equal to the previous event.
+ * Delivers events that are not equal to the previous event. Batches are
+ * forwarded as runs of consecutive changed events.
  *
  * @author Kevin Krumwiede
  */
-public class Changed<E> extends AbstractEmitter<E> implements StickyOp<E, E> {
+public class Changed<E> extends AbstractEmitter<E> implements StickyOp<E, E>, BatchOp<E, E> {
 	private E mLastEmitted;
 
 	@Override
@@ -21,6 +24,22 @@ public class Changed<E> extends AbstractEmitter<E> implements StickyOp<E, E> {
 		}
 	}
 
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		final int end = off + len;
+		int start = off;
+		for(int i = off; i < end; ++i) {
+			if(events[i].equals(mLastEmitted)) {
+				BatchOps.deliver(mReceiver, events, start, i - start);
+				start = i + 1;
+			}
+			else {
+				mLastEmitted = events[i];
+			}
+		}
+		BatchOps.deliver(mReceiver, events, start, end - start);
+	}
+
 	@Override
 	public void removeEvents() {
 		mLastEmitted = null;
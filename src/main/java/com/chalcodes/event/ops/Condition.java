@@ -0,0 +1,128 @@
+package com.chalcodes.event.ops;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A declarative filter that tests one attribute of an event. Unlike an
+ * arbitrary {@link Filter}, a condition exposes its attribute and criteria,
+ * so an {@link IndexedEventBus} can index it. Attributes are identified by
+ * their {@link KeyExtractor} instances, so conditions on the same attribute
+ * should share one extractor.
+ *
+ * @param <E> the event type
+ * @author Kevin Krumwiede
+ */
+public abstract class Condition<E> implements Filter<E> {
+	final KeyExtractor<? super E, ?> mAttribute;
+
+	private Condition(@Nonnull final KeyExtractor<? super E, ?> attribute) {
+		mAttribute = attribute;
+	}
+
+	/**
+	 * Matches events whose attribute equals a value.
+	 *
+	 * @param attribute the attribute
+	 * @param value the value
+	 * @param <E> the event type
+	 * @param <V> the attribute type
+	 * @return the condition
+	 */
+	public static <E, V> Condition<E> equalTo(@Nonnull final KeyExtractor<? super E, ? extends V> attribute,
+	                                          @Nonnull final V value) {
+		return new Values<E>(attribute, Collections.<Object>singleton(value));
+	}
+
+	/**
+	 * Matches events whose attribute equals any of several values.
+	 *
+	 * @param attribute the attribute
+	 * @param values the values
+	 * @param <E> the event type
+	 * @param <V> the attribute type
+	 * @return the condition
+	 */
+	public static <E, V> Condition<E> in(@Nonnull final KeyExtractor<? super E, ? extends V> attribute,
+	                                     @Nonnull final Collection<? extends V> values) {
+		return new Values<E>(attribute, new HashSet<Object>(values));
+	}
+
+	/**
+	 * Matches events whose attribute is within an inclusive range.
+	 *
+	 * @param attribute the attribute
+	 * @param min the minimum, or null for no minimum
+	 * @param max the maximum, or null for no maximum
+	 * @param <E> the event type
+	 * @param <V> the attribute type
+	 * @return the condition
+	 */
+	public static <E, V extends Comparable<? super V>> Condition<E> between(
+			@Nonnull final KeyExtractor<? super E, ? extends V> attribute,
+			@Nullable final V min,
+			@Nullable final V max) {
+		return new Range<E>(attribute, min, max);
+	}
+
+	public static <E, V extends Comparable<? super V>> Condition<E> atLeast(
+			@Nonnull final KeyExtractor<? super E, ? extends V> attribute, @Nonnull final V min) {
+		return between(attribute, min, null);
+	}
+
+	public static <E, V extends Comparable<? super V>> Condition<E> atMost(
+			@Nonnull final KeyExtractor<? super E, ? extends V> attribute, @Nonnull final V max) {
+		return between(attribute, null, max);
+	}
+
+	@Override
+	public boolean matches(@Nonnull final E event) {
+		return matchesValue(mAttribute.getKey(event));
+	}
+
+	abstract boolean matchesValue(@Nonnull Object value);
+
+	static final class Values<E> extends Condition<E> {
+		final Set<Object> mValues;
+
+		Values(final KeyExtractor<? super E, ?> attribute, final Set<Object> values) {
+			super(attribute);
+			mValues = values;
+		}
+
+		@Override
+		boolean matchesValue(@Nonnull final Object value) {
+			return mValues.contains(value);
+		}
+	}
+
+	static final class Range<E> extends Condition<E> {
+		@Nullable final Comparable<Object> mMin;
+		@Nullable final Comparable<Object> mMax;
+
+		/* The bounds are only compared with values of the same attribute. */
+		@SuppressWarnings("unchecked")
+		Range(final KeyExtractor<? super E, ?> attribute, @Nullable final Comparable<?> min, @Nullable final Comparable<?> max) {
+			super(attribute);
+			mMin = (Comparable<Object>) min;
+			mMax = (Comparable<Object>) max;
+		}
+
+		boolean isAboveMin(final Object value) {
+			return mMin == null || mMin.compareTo(value) <= 0;
+		}
+
+		boolean isBelowMax(final Object value) {
+			return mMax == null || mMax.compareTo(value) >= 0;
+		}
+
+		@Override
+		boolean matchesValue(@Nonnull final Object value) {
+			return isAboveMin(value) && isBelowMax(value);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.chalcodes.event.ops;
+
+import org.jctools.queues.MpscLinkedQueue;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Queues events to be delivered in an executor, retaining only the latest
+ * pending event for each key. If an event arrives while an older event with
+ * the same key is still pending, the new event replaces the old one without
+ * changing its place in the queue. The number of pending events is thus
+ * bounded by the number of distinct keys.
+ *
+ * @author Kevin Krumwiede
+ */
+public final class ConflateOn<E> extends AbstractQueueOn<E> {
+	public ConflateOn(@Nonnull final Executor executor, @Nonnull final KeyExtractor<? super E, ?> keyExtractor) {
+		super(executor, new ConflatingQueue<Object, E>(keyExtractor));
+	}
+
+	/**
+	 * Queues or replaces an event and calls {@link #drain()}.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		mQueue.offer(event);
+		drain();
+	}
+
+	/**
+	 * A queue of keys paired with a map of the latest event for each key. A
+	 * key is queued only when its map entry goes from absent to present, and
+	 * the entry is removed only after the key is polled, so each pending key
+	 * appears in the queue at most once. Supports multiple producers and a
+	 * single consumer.
+	 */
+	private static class ConflatingQueue<K, E> extends AbstractQueue<E> {
+		private final KeyExtractor<? super E, ? extends K> mKeyExtractor;
+		private final Queue<K> mKeys = MpscLinkedQueue.newMpscLinkedQueue();
+		private final ConcurrentMap<K, E> mEvents = new ConcurrentHashMap<K, E>();
+
+		ConflatingQueue(final KeyExtractor<? super E, ? extends K> keyExtractor) {
+			mKeyExtractor = keyExtractor;
+		}
+
+		@Override
+		public boolean offer(final E event) {
+			final K key = mKeyExtractor.getKey(event);
+			if(mEvents.put(key, event) == null) {
+				mKeys.offer(key);
+			}
+			return true;
+		}
+
+		@Override
+		public E poll() {
+			K key;
+			while((key = mKeys.poll()) != null) {
+				final E event = mEvents.remove(key);
+				if(event != null) {
+					return event;
+				}
+			}
+			return null;
+		}
+
+		@Override
+		public E peek() {
+			final K key = mKeys.peek();
+			return key == null ? null : mEvents.get(key);
+		}
+
+		@Override
+		public int size() {
+			return mEvents.size();
+		}
+
+		@Nonnull
+		@Override
+		public Iterator<E> iterator() {
+			return mEvents.values().iterator();
+		}
+	}
+}
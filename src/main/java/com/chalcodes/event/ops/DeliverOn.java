@@ -1,9 +1,11 @@
 package com.chalcodes.event.ops;
 
 import com.chalcodes.event.AbstractAsyncEmitter;
-import com.chalcodes.event.Op;
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchOps;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.concurrent.Executor;
 
 /**
@@ -11,10 +13,12 @@ import java.util.concurrent.Executor;
  * to single threaded executor that needs to remain responsive, such as a UI
  * framework's main thread. If the executor is multithreaded, the order in
  * which events are delivered is indeterminate.
+ * <p>
+ * A batch is copied and delivered in a single task.
  *
  * @author Kevin Krumwiede
  */
-public class DeliverOn<E> extends AbstractAsyncEmitter<E> implements Op<E, E> {
+public class DeliverOn<E> extends AbstractAsyncEmitter<E> implements BatchOp<E, E> {
 	public DeliverOn(@Nonnull final Executor executor) {
 		super(executor);
 	}
@@ -28,4 +32,15 @@ public class DeliverOn<E> extends AbstractAsyncEmitter<E> implements Op<E, E> {
 			}
 		});
 	}
+
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		final E[] copy = Arrays.copyOfRange(events, off, off + len);
+		mExecutor.execute(new Runnable() {
+			@Override
+			public void run() {
+				BatchOps.deliver(mReceiver, copy, 0, copy.length);
+			}
+		});
+	}
 }
@@ -27,21 +27,17 @@ public class Filters {
 	public static <E> Filter<E> combine(@Nonnull final Filter<? super E> first,
 	                                    @Nonnull final Filter<? super E> second,
 	                                    @Nonnull final Filter<? super E>... more) {
-		final List<Filter<? super E>> filters = new LinkedList<Filter<? super E>>();
-		filters.add(first);
-		filters.add(second);
-		Collections.addAll(filters, more);
-		return combine(filters);
+		return combine(asList(first, second, more));
 	}
 
 	public static <E> Filter<E> combine(@Nonnull final Collection<Filter<? super E>> filters) {
 		return new Filter<E>() {
-			private final List<Filter<? super E>> mFilters = new ArrayList<Filter<? super E>>(filters);
+			private final Filter<? super E>[] mFilters = toArray(filters);
 
 			@Override
 			public boolean matches(@Nonnull final E event) {
-				for(final Filter<? super E> filter : mFilters) {
-					if(!filter.matches(event)) {
+				for(int i = 0; i < mFilters.length; ++i) {
+					if(!mFilters[i].matches(event)) {
 						return false;
 					}
 				}
@@ -50,6 +46,106 @@ public class Filters {
 		};
 	}
 
+	/**
+	 * Combines two or more filters so that an event matches if it matches
+	 * any of them. Filters are tested in the order provided. If an event
+	 * matches one of the filters, it will not be tested by the remaining
+	 * filters. The combined filter is thread safe if and only if all its
+	 * constituent filters are thread safe.
+	 *
+	 * @param first the first event filter
+	 * @param second the second event filter
+	 * @param more additional event filters
+	 * @param <E> the event type
+	 * @return the combined event filter
+	 * @throws NullPointerException if more is null or any filter is null
+	 */
+	@SuppressWarnings("unchecked") // more is only read
+	public static <E> Filter<E> any(@Nonnull final Filter<? super E> first,
+	                                @Nonnull final Filter<? super E> second,
+	                                @Nonnull final Filter<? super E>... more) {
+		return any(asList(first, second, more));
+	}
+
+	public static <E> Filter<E> any(@Nonnull final Collection<Filter<? super E>> filters) {
+		return new Filter<E>() {
+			private final Filter<? super E>[] mFilters = toArray(filters);
+
+			@Override
+			public boolean matches(@Nonnull final E event) {
+				for(int i = 0; i < mFilters.length; ++i) {
+					if(mFilters[i].matches(event)) {
+						return true;
+					}
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Like {@link #combine(Filter, Filter, Filter[])}, but periodically
+	 * reorders the filters based on their measured cost and selectivity.
+	 * Filters should not have side effects, because a sample of events is
+	 * tested against every filter.
+	 *
+	 * @param first the first event filter
+	 * @param second the second event filter
+	 * @param more additional event filters
+	 * @param <E> the event type
+	 * @return the combined event filter
+	 * @throws NullPointerException if more is null or any filter is null
+	 */
+	@SuppressWarnings("unchecked") // more is only read
+	public static <E> Filter<E> adaptiveCombine(@Nonnull final Filter<? super E> first,
+	                                            @Nonnull final Filter<? super E> second,
+	                                            @Nonnull final Filter<? super E>... more) {
+		return adaptiveCombine(asList(first, second, more));
+	}
+
+	public static <E> Filter<E> adaptiveCombine(@Nonnull final Collection<Filter<? super E>> filters) {
+		return new AdaptiveFilter<E>(filters, true);
+	}
+
+	/**
+	 * Like {@link #any(Filter, Filter, Filter[])}, but periodically reorders
+	 * the filters based on their measured cost and selectivity. Filters
+	 * should not have side effects, because a sample of events is tested
+	 * against every filter.
+	 *
+	 * @param first the first event filter
+	 * @param second the second event filter
+	 * @param more additional event filters
+	 * @param <E> the event type
+	 * @return the combined event filter
+	 * @throws NullPointerException if more is null or any filter is null
+	 */
+	@SuppressWarnings("unchecked") // more is only read
+	public static <E> Filter<E> adaptiveAny(@Nonnull final Filter<? super E> first,
+	                                        @Nonnull final Filter<? super E> second,
+	                                        @Nonnull final Filter<? super E>... more) {
+		return adaptiveAny(asList(first, second, more));
+	}
+
+	public static <E> Filter<E> adaptiveAny(@Nonnull final Collection<Filter<? super E>> filters) {
+		return new AdaptiveFilter<E>(filters, false);
+	}
+
+	private static <E> List<Filter<? super E>> asList(final Filter<? super E> first,
+	                                                 final Filter<? super E> second,
+	                                                 final Filter<? super E>[] more) {
+		final List<Filter<? super E>> filters = new ArrayList<Filter<? super E>>(2 + more.length);
+		filters.add(first);
+		filters.add(second);
+		Collections.addAll(filters, more);
+		return filters;
+	}
+
+	@SuppressWarnings("unchecked") // generic array creation; elements are all Filter<? super E>
+	private static <E> Filter<? super E>[] toArray(final Collection<Filter<? super E>> filters) {
+		return filters.toArray((Filter<? super E>[]) new Filter<?>[filters.size()]);
+	}
+
 	public static <E> Filter<E> invert(@Nonnull final Filter<? super E> filter) {
 		return new Filter<E>() {
 			@Override
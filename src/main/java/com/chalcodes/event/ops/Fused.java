@@ -0,0 +1,143 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.AbstractEmitter;
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchOps;
+import com.chalcodes.event.StickyOp;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * A sequence of {@link Pass}, {@link Ignore}, and {@link Changed} stages fused
+ * into a single op. Each event passes through the stages in a single loop,
+ * instead of through a chain of ops each calling the next. This is used by
+ * {@link com.chalcodes.event.Stream} builders to fuse consecutive stages.
+ * <p>
+ * Instances are immutable until they receive events; each method that adds a
+ * stage returns a new instance. Batches are forwarded as runs of consecutive
+ * events that pass every stage.
+ *
+ * @author Kevin Krumwiede
+ */
+public final class Fused<E> extends AbstractEmitter<E> implements StickyOp<E, E>, BatchOp<E, E> {
+	private static final int PASS = 0;
+	private static final int IGNORE = 1;
+	private static final int CHANGED = 2;
+	private final int[] mKinds;
+	private final Filter<? super E>[] mFilters;
+	private final int[] mIgnoreCounts;
+	private final int[] mCounts;
+	private final Object[] mLastEmitted;
+
+	private Fused(final int[] kinds, final Filter<? super E>[] filters, final int[] ignoreCounts) {
+		mKinds = kinds;
+		mFilters = filters;
+		mIgnoreCounts = ignoreCounts;
+		mCounts = new int[kinds.length];
+		mLastEmitted = new Object[kinds.length];
+	}
+
+	/**
+	 * Creates an op with no stages, which delivers every event.
+	 *
+	 * @param <E> the event type
+	 * @return a new op
+	 */
+	public static <E> Fused<E> create() {
+		@SuppressWarnings("unchecked") // generic array creation; the array is empty
+		final Filter<? super E>[] filters = (Filter<? super E>[]) new Filter<?>[0];
+		return new Fused<E>(new int[0], filters, new int[0]);
+	}
+
+	private Fused<E> append(final int kind, final Filter<? super E> filter, final int ignoreCount) {
+		final int n = mKinds.length;
+		final int[] kinds = Arrays.copyOf(mKinds, n + 1);
+		final Filter<? super E>[] filters = Arrays.copyOf(mFilters, n + 1);
+		final int[] ignoreCounts = Arrays.copyOf(mIgnoreCounts, n + 1);
+		kinds[n] = kind;
+		filters[n] = filter;
+		ignoreCounts[n] = ignoreCount;
+		return new Fused<E>(kinds, filters, ignoreCounts);
+	}
+
+	/**
+	 * Returns a new op with an additional stage equivalent to {@link Pass}.
+	 *
+	 * @param filter the filter
+	 * @return a new op
+	 */
+	public Fused<E> pass(@Nonnull final Filter<? super E> filter) {
+		return append(PASS, filter, 0);
+	}
+
+	/**
+	 * Returns a new op with an additional stage equivalent to {@link Ignore}.
+	 *
+	 * @param count the number of events to ignore
+	 * @return a new op
+	 */
+	public Fused<E> ignore(final int count) {
+		return append(IGNORE, null, count);
+	}
+
+	/**
+	 * Returns a new op with an additional stage equivalent to {@link
+	 * Changed}.
+	 *
+	 * @return a new op
+	 */
+	public Fused<E> changed() {
+		return append(CHANGED, null, 0);
+	}
+
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		if(accept(event)) {
+			mReceiver.onEvent(event);
+		}
+	}
+
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		final int end = off + len;
+		int start = off;
+		for(int i = off; i < end; ++i) {
+			if(!accept(events[i])) {
+				BatchOps.deliver(mReceiver, events, start, i - start);
+				start = i + 1;
+			}
+		}
+		BatchOps.deliver(mReceiver, events, start, end - start);
+	}
+
+	private boolean accept(final E event) {
+		for(int i = 0; i < mKinds.length; ++i) {
+			switch(mKinds[i]) {
+				case PASS:
+					if(!mFilters[i].matches(event)) {
+						return false;
+					}
+					break;
+				case IGNORE:
+					if(mCounts[i] < mIgnoreCounts[i]) {
+						++mCounts[i];
+						return false;
+					}
+					break;
+				case CHANGED:
+					if(event.equals(mLastEmitted[i])) {
+						return false;
+					}
+					mLastEmitted[i] = event;
+					break;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void removeEvents() {
+		Arrays.fill(mLastEmitted, null);
+	}
+}
@@ -1,7 +1,8 @@
 package com.chalcodes.event.ops;
 
 import com.chalcodes.event.AbstractEmitter;
-import com.chalcodes.event.Op;
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchOps;
 
 import javax.annotation.Nonnull;
 
@@ -10,7 +11,7 @@ import javax.annotation.Nonnull;
  *
  * @author Kevin Krumwiede
  */
-public class Ignore<E> extends AbstractEmitter<E> implements Op<E, E> {
+public class Ignore<E> extends AbstractEmitter<E> implements BatchOp<E, E> {
 	private final int mIgnoreCount;
 	private int mCount;
 
@@ -27,4 +28,11 @@ public class Ignore<E> extends AbstractEmitter<E> implements Op<E, E> {
 			mReceiver.onEvent(event);
 		}
 	}
+
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		final int skip = Math.max(0, Math.min(len, mIgnoreCount - mCount));
+		mCount += skip;
+		BatchOps.deliver(mReceiver, events, off + skip, len - skip);
+	}
 }
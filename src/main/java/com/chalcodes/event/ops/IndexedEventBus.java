@@ -0,0 +1,260 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.ExceptionHandler;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.Receiver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A synchronous multicast op that delivers events to receivers whose
+ * {@link Condition conditions} they match. Receivers registered with
+ * conditions are indexed by one of their conditions, preferring equality
+ * conditions, so delivery only visits receivers that match the indexed
+ * condition. Equality and set membership conditions are indexed by hash.
+ * Range conditions are sorted by minimum and scanned until the minimum
+ * exceeds the event's attribute. Any remaining conditions are tested
+ * directly.
+ * <p>
+ * The index is rebuilt when receivers are registered or unregistered, so
+ * receivers can safely unregister themselves during delivery. This class is
+ * not thread safe.
+ *
+ * @author Kevin Krumwiede
+ */
+public class IndexedEventBus<E> implements Op<E, E> {
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	private final List<Subscription> mSubscriptions = new ArrayList<Subscription>();
+	private Subscription[] mUnconditional = newSubscriptions(0);
+	private AttributeIndex[] mIndexes = newIndexes(0);
+
+	public IndexedEventBus(@Nullable final ExceptionHandler<E> exceptionHandler) {
+		mExceptionHandler = exceptionHandler;
+	}
+
+	public IndexedEventBus() {
+		this(null);
+	}
+
+	/**
+	 * Registers a receiver for every event.
+	 *
+	 * @param receiver the receiver to register
+	 * @return true
+	 */
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return register(receiver, Collections.<Condition<? super E>>emptyList());
+	}
+
+	/**
+	 * Registers a receiver for events that match all the specified
+	 * conditions. A receiver registered more than once receives each event
+	 * once for each registration it matches.
+	 *
+	 * @param receiver the receiver to register
+	 * @param conditions the conditions
+	 * @return true
+	 */
+	public boolean register(@Nonnull final Receiver<? super E> receiver,
+	                        @Nonnull final List<? extends Condition<? super E>> conditions) {
+		mSubscriptions.add(new Subscription(receiver, conditions));
+		rebuild();
+		return true;
+	}
+
+	/**
+	 * Unregisters a receiver from every registration.
+	 *
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	@Override
+	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		boolean changed = false;
+		final Iterator<Subscription> iter = mSubscriptions.iterator();
+		while(iter.hasNext()) {
+			if(iter.next().mReceiver.equals(receiver)) {
+				iter.remove();
+				changed = true;
+			}
+		}
+		if(changed) {
+			rebuild();
+		}
+		return changed;
+	}
+
+	private void rebuild() {
+		final List<Subscription> unconditional = new ArrayList<Subscription>();
+		final Map<KeyExtractor<?, ?>, AttributeIndex> indexes = new LinkedHashMap<KeyExtractor<?, ?>, AttributeIndex>();
+		for(final Subscription subscription : mSubscriptions) {
+			if(subscription.mPrimary == null) {
+				unconditional.add(subscription);
+				continue;
+			}
+			final KeyExtractor<? super E, ?> attribute = subscription.mPrimary.mAttribute;
+			AttributeIndex index = indexes.get(attribute);
+			if(index == null) {
+				index = new AttributeIndex(attribute);
+				indexes.put(attribute, index);
+			}
+			index.add(subscription);
+		}
+		for(final AttributeIndex index : indexes.values()) {
+			index.freeze();
+		}
+		mUnconditional = unconditional.toArray(newSubscriptions(unconditional.size()));
+		mIndexes = indexes.values().toArray(newIndexes(indexes.size()));
+	}
+
+	/* Arrays of inner classes of a generic class cannot be created directly. */
+
+	@SuppressWarnings("unchecked")
+	private Subscription[] newSubscriptions(final int size) {
+		return (Subscription[]) new IndexedEventBus<?>.Subscription[size];
+	}
+
+	@SuppressWarnings("unchecked")
+	private AttributeIndex[] newIndexes(final int size) {
+		return (AttributeIndex[]) new IndexedEventBus<?>.AttributeIndex[size];
+	}
+
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final Subscription[] unconditional = mUnconditional;
+		for(int i = 0; i < unconditional.length; ++i) {
+			dispatch(unconditional[i].mReceiver, event);
+		}
+		final AttributeIndex[] indexes = mIndexes;
+		for(int i = 0; i < indexes.length; ++i) {
+			indexes[i].deliver(event);
+		}
+	}
+
+	private void dispatch(final Receiver<? super E> receiver, final E event) {
+		try {
+			receiver.onEvent(event);
+		}
+		catch(RuntimeException e) {
+			if(mExceptionHandler == null) {
+				throw e;
+			}
+			mExceptionHandler.onException(this, receiver, event, e);
+		}
+	}
+
+	private class Subscription {
+		final Receiver<? super E> mReceiver;
+		@Nullable final Condition<? super E> mPrimary;
+		final Condition<? super E>[] mResidual;
+
+		Subscription(final Receiver<? super E> receiver, final List<? extends Condition<? super E>> conditions) {
+			mReceiver = receiver;
+			final List<Condition<? super E>> residual = new ArrayList<Condition<? super E>>(conditions);
+			Condition<? super E> primary = null;
+			for(final Condition<? super E> condition : residual) {
+				if(condition instanceof Condition.Values) {
+					primary = condition;
+					break;
+				}
+			}
+			if(primary == null && !residual.isEmpty()) {
+				primary = residual.get(0);
+			}
+			residual.remove(primary);
+			mPrimary = primary;
+			@SuppressWarnings("unchecked") // generic array creation; every element is a Condition<? super E>
+			final Condition<? super E>[] array = (Condition<? super E>[]) new Condition<?>[residual.size()];
+			mResidual = residual.toArray(array);
+		}
+
+		void deliver(final E event) {
+			for(int i = 0; i < mResidual.length; ++i) {
+				if(!mResidual[i].matches(event)) {
+					return;
+				}
+			}
+			dispatch(mReceiver, event);
+		}
+	}
+
+	private class AttributeIndex {
+		final KeyExtractor<? super E, ?> mAttribute;
+		final Map<Object, List<Subscription>> mBuilder = new HashMap<Object, List<Subscription>>();
+		final Map<Object, Subscription[]> mValues = new HashMap<Object, Subscription[]>();
+		final List<Subscription> mRangeBuilder = new ArrayList<Subscription>();
+		Subscription[] mRanges;
+
+		AttributeIndex(final KeyExtractor<? super E, ?> attribute) {
+			mAttribute = attribute;
+		}
+
+		void add(final Subscription subscription) {
+			if(subscription.mPrimary instanceof Condition.Values) {
+				for(final Object value : ((Condition.Values<?>) subscription.mPrimary).mValues) {
+					List<Subscription> list = mBuilder.get(value);
+					if(list == null) {
+						list = new ArrayList<Subscription>(1);
+						mBuilder.put(value, list);
+					}
+					list.add(subscription);
+				}
+			}
+			else {
+				mRangeBuilder.add(subscription);
+			}
+		}
+
+		void freeze() {
+			for(final Map.Entry<Object, List<Subscription>> entry : mBuilder.entrySet()) {
+				final List<Subscription> list = entry.getValue();
+				mValues.put(entry.getKey(), list.toArray(newSubscriptions(list.size())));
+			}
+			mBuilder.clear();
+			mRanges = mRangeBuilder.toArray(newSubscriptions(mRangeBuilder.size()));
+			mRangeBuilder.clear();
+			Arrays.sort(mRanges, new Comparator<Subscription>() {
+				@Override
+				public int compare(final Subscription a, final Subscription b) {
+					final Comparable<Object> minA = ((Condition.Range<?>) a.mPrimary).mMin;
+					final Comparable<Object> minB = ((Condition.Range<?>) b.mPrimary).mMin;
+					if(minA == null) {
+						return minB == null ? 0 : -1;
+					}
+					return minB == null ? 1 : minA.compareTo(minB);
+				}
+			});
+		}
+
+		void deliver(final E event) {
+			final Object value = mAttribute.getKey(event);
+			final Subscription[] matches = mValues.get(value);
+			if(matches != null) {
+				for(int i = 0; i < matches.length; ++i) {
+					matches[i].deliver(event);
+				}
+			}
+			final Subscription[] ranges = mRanges;
+			for(int i = 0; i < ranges.length; ++i) {
+				final Condition.Range<?> range = (Condition.Range<?>) ranges[i].mPrimary;
+				if(!range.isAboveMin(value)) {
+					break;
+				}
+				if(range.isBelowMax(value)) {
+					ranges[i].deliver(event);
+				}
+			}
+		}
+	}
+}
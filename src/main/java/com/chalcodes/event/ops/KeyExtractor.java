@@ -0,0 +1,20 @@
+package com.chalcodes.event.ops;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Extracts keys from events.
+ *
+ * @param <E> the event type
+ * @param <K> the key type
+ * @author Kevin Krumwiede
+ */
+public interface KeyExtractor<E, K> {
+	/**
+	 * Returns the key of an event. Equal events must have equal keys.
+	 *
+	 * @param event the event
+	 * @return the key
+	 */
+	@Nonnull K getKey(@Nonnull E event);
+}
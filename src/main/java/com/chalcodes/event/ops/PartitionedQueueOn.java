@@ -0,0 +1,123 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.AbstractAsyncEmitter;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.StickyOp;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Executor;
+
+/**
+ * Queues events to be delivered in an executor, using several lanes that are
+ * drained independently. Each event is assigned to a lane by the hash code of
+ * its key. Events with equal keys are delivered in order, but events with
+ * different keys may be delivered concurrently, so the receiver must be
+ * thread safe.
+ *
+ * @author Kevin Krumwiede
+ */
+public final class PartitionedQueueOn<E> extends AbstractAsyncEmitter<E> implements StickyOp<E, E> {
+	private final KeyExtractor<? super E, ?> mKeyExtractor;
+	private final QueueOn<E>[] mLanes;
+
+	/**
+	 * Creates a new partitioned queue op.
+	 *
+	 * @param executor the executor
+	 * @param laneCount the number of lanes
+	 * @param keyExtractor the key extractor
+	 * @throws IllegalArgumentException if laneCount is less than 1
+	 */
+	public PartitionedQueueOn(@Nonnull final Executor executor,
+	                          final int laneCount,
+	                          @Nonnull final KeyExtractor<? super E, ?> keyExtractor) {
+		super(executor);
+		if(laneCount < 1) {
+			throw new IllegalArgumentException("lane count must be at least 1");
+		}
+		mKeyExtractor = keyExtractor;
+		mLanes = newLanes(laneCount);
+		for(int i = 0; i < laneCount; ++i) {
+			mLanes[i] = new QueueOn<E>(executor);
+		}
+	}
+
+	@SuppressWarnings("unchecked") // generic array creation; every lane is a QueueOn<E>
+	private static <E> QueueOn<E>[] newLanes(final int laneCount) {
+		return (QueueOn<E>[]) new QueueOn<?>[laneCount];
+	}
+
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		if(super.register(receiver)) {
+			for(final QueueOn<E> lane : mLanes) {
+				lane.register(receiver);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		if(super.unregister(receiver)) {
+			for(final QueueOn<E> lane : mLanes) {
+				lane.unregister(receiver);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Queues an event in the lane for its key and drains that lane.
+	 *
+	 * @param event the event
+	 */
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		mLanes[laneOf(event)].onEvent(event);
+	}
+
+	private int laneOf(final E event) {
+		final int h = mKeyExtractor.getKey(event).hashCode();
+		return ((h ^ (h >>> 16)) & Integer.MAX_VALUE) % mLanes.length;
+	}
+
+	/**
+	 * Drains every lane.
+	 *
+	 * @see QueueOn#drain()
+	 */
+	public void drain() {
+		for(final QueueOn<E> lane : mLanes) {
+			lane.drain();
+		}
+	}
+
+	@Override
+	public void removeEvents() {
+		for(final QueueOn<E> lane : mLanes) {
+			lane.removeEvents();
+		}
+	}
+
+	/**
+	 * Returns the number of lanes.
+	 *
+	 * @return the lane count
+	 */
+	public int getLaneCount() {
+		return mLanes.length;
+	}
+
+	/**
+	 * Returns the approximate number of events queued in a lane.
+	 *
+	 * @param lane the lane index
+	 * @return the lane depth
+	 */
+	public int getDepth(final int lane) {
+		return mLanes[lane].getDepth();
+	}
+}
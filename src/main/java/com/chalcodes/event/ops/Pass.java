@@ -1,17 +1,19 @@
 package com.chalcodes.event.ops;
 
 import com.chalcodes.event.AbstractEmitter;
-import com.chalcodes.event.Op;
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.BatchOps;
 
 import javax.annotation.Nonnull;
 
 /**
  * Delivers events that match a {@link Filter}. Events that do not match are
- * silently ignored.
+ * silently ignored. Batches are forwarded as runs of consecutive matching
+ * events.
  *
  * @author Kevin Krumwiede
  */
-public class Pass<E> extends AbstractEmitter<E> implements Op<E,E> {
+public class Pass<E> extends AbstractEmitter<E> implements BatchOp<E, E> {
 	private final Filter<E> mFilter;
 
 	public Pass(@Nonnull final Filter<E> filter) {
@@ -24,4 +26,17 @@ public class Pass<E> extends AbstractEmitter<E> implements Op<E,E> {
 			mReceiver.onEvent(event);
 		}
 	}
+
+	@Override
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		final int end = off + len;
+		int start = off;
+		for(int i = off; i < end; ++i) {
+			if(!mFilter.matches(events[i])) {
+				BatchOps.deliver(mReceiver, events, start, i - start);
+				start = i + 1;
+			}
+		}
+		BatchOps.deliver(mReceiver, events, start, end - start);
+	}
 }
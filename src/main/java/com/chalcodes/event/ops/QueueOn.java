@@ -1,27 +1,42 @@
 package com.chalcodes.event.ops;
 
-import com.chalcodes.event.AbstractAsyncEmitter;
-import com.chalcodes.event.Receiver;
-import com.chalcodes.event.StickyOp;
+import com.chalcodes.event.BatchOp;
+import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpscLinkedQueue;
 
 import javax.annotation.Nonnull;
 import java.util.AbstractQueue;
 import java.util.concurrent.Executor;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Queues events to be delivered in an executor.
  *
  * @author Kevin Krumwiede
  */
-public final class QueueOn<E> extends AbstractAsyncEmitter<E> implements StickyOp<E, E> {
-	private final AbstractQueue<E> mQueue = MpscLinkedQueue.newMpscLinkedQueue();
-	private final AtomicInteger mCounter = new AtomicInteger();
+public final class QueueOn<E> extends AbstractQueueOn<E> implements BatchOp<E, E> {
+	private final MessagePassingQueue<E> mMessageQueue;
 
 	public QueueOn(@Nonnull final Executor executor) {
-		super(executor);
+		this(executor, MpscLinkedQueue.<E>newMpscLinkedQueue(), Integer.MAX_VALUE, 0);
+	}
+
+	/**
+	 * Creates a new queue op with a drain budget. The drain task resubmits
+	 * itself after delivering {@code maxEventsPerRun} events or running for
+	 * {@code maxNanosPerRun} nanoseconds, whichever comes first. This allows
+	 * many queues to share a small thread pool fairly.
+	 *
+	 * @param executor the executor
+	 * @param maxEventsPerRun the maximum number of events per run
+	 * @param maxNanosPerRun the maximum time per run, or 0 for no limit
+	 */
+	public QueueOn(@Nonnull final Executor executor, final int maxEventsPerRun, final long maxNanosPerRun) {
+		this(executor, MpscLinkedQueue.<E>newMpscLinkedQueue(), maxEventsPerRun, maxNanosPerRun);
+	}
+
+	private QueueOn(final Executor executor, final MpscLinkedQueue<E> queue, final int maxEventsPerRun, final long maxNanosPerRun) {
+		super(executor, queue, maxEventsPerRun, maxNanosPerRun);
+		mMessageQueue = queue;
 	}
 
 	/**
@@ -38,51 +53,31 @@ public final class QueueOn<E> extends AbstractAsyncEmitter<E> implements StickyO
 	}
 
 	/**
-	 * Executes a task to drain the queue to the current receiver, if a
-	 * receiver is registered and such a task is not already running or
-	 * pending. This method is <em>not</em> called when a receiver is
-	 * registered. If this method throws {@link RejectedExecutionException},
-	 * events remain in the queue for possible delivery the next time this
-	 * method is called. Whether this condition is recoverable depends on the
-	 * executor.
+	 * Queues a batch of events and calls {@link #drain()} once. The events
+	 * are linked together before they are added to the queue, so the batch
+	 * costs one atomic operation on the queue instead of one per event.
+	 *
+	 * @param events the events
+	 * @param off the offset of the first event
+	 * @param len the number of events
 	 */
-	public void drain() {
-		final Receiver<? super E> receiver = mReceiver;
-		// see http://akarnokd.blogspot.com/2015/05/operator-concurrency-primitives_11.html
-		if(receiver != null && mCounter.getAndIncrement() == 0) {
-			try {
-				mExecutor.execute(new Runnable() {
-					@Override
-					public void run() {
-						do {
-							mCounter.set(1);
-							E event;
-							while((event = mQueue.poll()) != null) {
-								try {
-									receiver.onEvent(event);
-								}
-								catch(RuntimeException e) {
-									mCounter.set(0);
-									throw e;
-								}
-							}
-						}
-						while(mCounter.decrementAndGet() != 0);
-					}
-				});
-			}
-			catch(RejectedExecutionException e) {
-				mCounter.set(0);
-				throw e;
-			}
-		}
-	}
-
 	@Override
-	public void removeEvents() {
-		if(mCounter.getAndIncrement() == 0) {
-			mQueue.clear();
-			mCounter.set(0);
+	public void onEvents(@Nonnull final E[] events, final int off, final int len) {
+		if(off < 0 || len < 0 || off > events.length - len) {
+			throw new IndexOutOfBoundsException();
 		}
+		mMessageQueue.fill(new MessagePassingQueue.Supplier<E>() {
+			private int mIndex = off;
+
+			@Override
+			public E get() {
+				final E event = events[mIndex++];
+				if(event == null) {
+					throw new NullPointerException();
+				}
+				return event;
+			}
+		}, len);
+		drain();
 	}
 }
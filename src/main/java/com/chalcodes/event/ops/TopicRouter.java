@@ -0,0 +1,172 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.ConcurrentEventBus;
+import com.chalcodes.event.Emitter;
+import com.chalcodes.event.ExceptionHandler;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.util.AtomicArray;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Routes events to receivers by key. Each event is delivered to the
+ * receivers registered for its key, which are found with a single hash
+ * lookup, and then to any receivers registered through {@link
+ * #register(Receiver)}, which receive every event. Topics are created when a
+ * receiver is first registered for a key and removed when the last receiver
+ * for a key is unregistered.
+ * <p>
+ * This class is thread safe. Registration and delivery do not lock.
+ * Exceptions propagating from topic receivers are passed to the exception
+ * handler with the topic as the emitter, so {@link
+ * com.chalcodes.event.ExceptionHandlers#unregister()} works as expected.
+ *
+ * @param <K> the key type
+ * @param <E> the event type
+ * @author Kevin Krumwiede
+ */
+public class TopicRouter<K, E> implements Op<E, E> {
+	private final KeyExtractor<? super E, ? extends K> mKeyExtractor;
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	private final ConcurrentMap<K, Topic> mTopics = new ConcurrentHashMap<K, Topic>();
+	private final ConcurrentEventBus<E> mAll;
+
+	public TopicRouter(@Nonnull final KeyExtractor<? super E, ? extends K> keyExtractor,
+	                   @Nullable final ExceptionHandler<E> exceptionHandler) {
+		mKeyExtractor = keyExtractor;
+		mExceptionHandler = exceptionHandler;
+		mAll = new ConcurrentEventBus<E>(exceptionHandler);
+	}
+
+	public TopicRouter(@Nonnull final KeyExtractor<? super E, ? extends K> keyExtractor) {
+		this(keyExtractor, null);
+	}
+
+	/**
+	 * Registers a receiver for every event.
+	 *
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; otherwise false
+	 */
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return mAll.register(receiver);
+	}
+
+	@Override
+	public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		return mAll.unregister(receiver);
+	}
+
+	/**
+	 * Registers a receiver for events with the specified key.
+	 *
+	 * @param key the key
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; otherwise false
+	 */
+	public boolean register(@Nonnull final K key, @Nonnull final Receiver<? super E> receiver) {
+		while(true) {
+			Topic topic = mTopics.get(key);
+			if(topic == null) {
+				final Topic created = new Topic(key);
+				topic = mTopics.putIfAbsent(key, created);
+				if(topic == null) {
+					topic = created;
+				}
+			}
+			if(topic.register(receiver)) {
+				return true;
+			}
+			/* The topic died; help remove it and try again. */
+			mTopics.remove(key, topic);
+		}
+	}
+
+	/**
+	 * Unregisters a receiver for events with the specified key.
+	 *
+	 * @param key the key
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	public boolean unregister(@Nonnull final K key, @Nonnull final Receiver<? super E> receiver) {
+		final Topic topic = mTopics.get(key);
+		return topic != null && topic.unregister(receiver);
+	}
+
+	/**
+	 * Returns the number of keys with registered receivers.
+	 *
+	 * @return the topic count
+	 */
+	public int getTopicCount() {
+		return mTopics.size();
+	}
+
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final Topic topic = mTopics.get(mKeyExtractor.getKey(event));
+		if(topic != null) {
+			topic.deliver(event);
+		}
+		mAll.onEvent(event);
+	}
+
+	/**
+	 * The receivers for one key. The receiver array closes when the last
+	 * receiver is unregistered, so a topic that has been removed from the
+	 * map never accepts receivers again.
+	 */
+	private class Topic implements Emitter<E> {
+		private final K mKey;
+		private final AtomicArray<Receiver<? super E>> mReceivers = new AtomicArray<Receiver<? super E>>(true);
+
+		Topic(final K key) {
+			mKey = key;
+		}
+
+		/**
+		 * Registers a receiver.
+		 *
+		 * @return true if the receiver was registered; false if this topic
+		 * is dead
+		 */
+		@Override
+		public boolean register(@Nonnull final Receiver<? super E> receiver) {
+			return mReceivers.add(receiver);
+		}
+
+		@Override
+		public boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+			if(!mReceivers.remove(receiver)) {
+				return false;
+			}
+			if(mReceivers.isClosed()) {
+				mTopics.remove(mKey, this);
+			}
+			return true;
+		}
+
+		void deliver(final E event) {
+			final Object[] receivers = mReceivers.snapshot();
+			for(int i = 0; i < receivers.length; ++i) {
+				@SuppressWarnings("unchecked") // only receivers are registered
+				final Receiver<? super E> receiver = (Receiver<? super E>) receivers[i];
+				try {
+					receiver.onEvent(event);
+				}
+				catch(RuntimeException e) {
+					if(mExceptionHandler == null) {
+						throw e;
+					}
+					mExceptionHandler.onException(this, receiver, event, e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,252 @@
+package com.chalcodes.event.ops;
+
+import com.chalcodes.event.ExceptionHandler;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.Receiver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Routes events to receivers by hierarchical topic, using MQTT-style topic
+ * filters. Topics and filters consist of segments separated by {@code /}. In
+ * a filter, the segment {@code +} matches any single segment, and a final
+ * segment {@code #} matches the parent segment and any number of following
+ * segments. For example, {@code orders/+/fills} matches {@code
+ * orders/eu/fills}, and {@code md/#} matches {@code md} and {@code
+ * md/eu/xyz}.
+ * <p>
+ * Filters are indexed in a trie of segments, so the cost of matching a topic
+ * depends on its depth rather than on the number of filters. The receivers
+ * matching each topic are cached until the next registration change, so
+ * events with a previously seen topic are delivered after a single hash
+ * lookup. A receiver registered with several matching filters receives each
+ * event once.
+ * <p>
+ * This class is thread safe. Delivery to cached topics does not lock.
+ *
+ * @author Kevin Krumwiede
+ */
+public class TrieRouter<E> implements Op<E, E> {
+	private static final String SEPARATOR = "/";
+	private static final String SINGLE = "+";
+	private static final String MULTI = "#";
+	private static final int DEFAULT_MAX_CACHE_SIZE = 1024;
+	private final KeyExtractor<? super E, String> mTopicExtractor;
+	@Nullable private final ExceptionHandler<E> mExceptionHandler;
+	private final int mMaxCacheSize;
+	/** Guarded by {@code this}. */
+	private final Node mRoot = new Node();
+	private volatile ConcurrentMap<String, Object[]> mCache = new ConcurrentHashMap<String, Object[]>();
+
+	/**
+	 * Creates a new trie router.
+	 *
+	 * @param topicExtractor extracts topics from events
+	 * @param exceptionHandler the exception handler, or null
+	 * @param maxCacheSize the maximum number of topics to cache
+	 */
+	public TrieRouter(@Nonnull final KeyExtractor<? super E, String> topicExtractor,
+	                  @Nullable final ExceptionHandler<E> exceptionHandler,
+	                  final int maxCacheSize) {
+		mTopicExtractor = topicExtractor;
+		mExceptionHandler = exceptionHandler;
+		mMaxCacheSize = maxCacheSize;
+	}
+
+	public TrieRouter(@Nonnull final KeyExtractor<? super E, String> topicExtractor) {
+		this(topicExtractor, null, DEFAULT_MAX_CACHE_SIZE);
+	}
+
+	/**
+	 * Registers a receiver for every event. This is equivalent to
+	 * registering it with the filter {@code #}.
+	 *
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; otherwise false
+	 */
+	@Override
+	public boolean register(@Nonnull final Receiver<? super E> receiver) {
+		return register(MULTI, receiver);
+	}
+
+	/**
+	 * Unregisters a receiver from every filter it was registered with.
+	 *
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	@Override
+	public synchronized boolean unregister(@Nonnull final Receiver<? super E> receiver) {
+		final boolean changed = mRoot.removeEverywhere(receiver);
+		if(changed) {
+			invalidate();
+		}
+		return changed;
+	}
+
+	/**
+	 * Registers a receiver for events whose topics match a filter.
+	 *
+	 * @param filter the topic filter
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; false if it was already
+	 * registered with the filter
+	 * @throws IllegalArgumentException if the filter is malformed
+	 */
+	public synchronized boolean register(@Nonnull final String filter, @Nonnull final Receiver<? super E> receiver) {
+		Node node = mRoot;
+		for(final String segment : parse(filter)) {
+			Node child = node.mChildren.get(segment);
+			if(child == null) {
+				child = new Node();
+				node.mChildren.put(segment, child);
+			}
+			node = child;
+		}
+		if(node.mReceivers.contains(receiver)) {
+			return false;
+		}
+		node.mReceivers.add(receiver);
+		invalidate();
+		return true;
+	}
+
+	/**
+	 * Unregisters a receiver from a filter.
+	 *
+	 * @param filter the topic filter
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 * @throws IllegalArgumentException if the filter is malformed
+	 */
+	public synchronized boolean unregister(@Nonnull final String filter, @Nonnull final Receiver<? super E> receiver) {
+		if(mRoot.remove(parse(filter), 0, receiver)) {
+			invalidate();
+			return true;
+		}
+		return false;
+	}
+
+	private static String[] parse(final String filter) {
+		final String[] segments = filter.split(SEPARATOR, -1);
+		for(int i = 0; i < segments.length; ++i) {
+			final String segment = segments[i];
+			if(segment.equals(MULTI) ? i != segments.length - 1
+					: !segment.equals(SINGLE) && (segment.contains(SINGLE) || segment.contains(MULTI))) {
+				throw new IllegalArgumentException("malformed topic filter: " + filter);
+			}
+		}
+		return segments;
+	}
+
+	private void invalidate() {
+		mCache = new ConcurrentHashMap<String, Object[]>();
+	}
+
+	@Override
+	public void onEvent(@Nonnull final E event) {
+		final String topic = mTopicExtractor.getKey(event);
+		Object[] receivers = mCache.get(topic);
+		if(receivers == null) {
+			receivers = match(topic);
+		}
+		for(int i = 0; i < receivers.length; ++i) {
+			@SuppressWarnings("unchecked") // only receivers are registered
+			final Receiver<? super E> receiver = (Receiver<? super E>) receivers[i];
+			dispatch(receiver, event);
+		}
+	}
+
+	private synchronized Object[] match(final String topic) {
+		Object[] receivers = mCache.get(topic);
+		if(receivers == null) {
+			final Set<Receiver<?>> matches = new LinkedHashSet<Receiver<?>>();
+			mRoot.match(topic.split(SEPARATOR, -1), 0, matches);
+			receivers = matches.toArray();
+			if(mCache.size() >= mMaxCacheSize) {
+				invalidate();
+			}
+			mCache.put(topic, receivers);
+		}
+		return receivers;
+	}
+
+	private void dispatch(final Receiver<? super E> receiver, final E event) {
+		try {
+			receiver.onEvent(event);
+		}
+		catch(RuntimeException e) {
+			if(mExceptionHandler == null) {
+				throw e;
+			}
+			mExceptionHandler.onException(this, receiver, event, e);
+		}
+	}
+
+	private static class Node {
+		final Map<String, Node> mChildren = new HashMap<String, Node>();
+		final List<Receiver<?>> mReceivers = new ArrayList<Receiver<?>>(1);
+
+		void match(final String[] segments, final int index, final Set<Receiver<?>> matches) {
+			final Node multi = mChildren.get(MULTI);
+			if(multi != null) {
+				matches.addAll(multi.mReceivers);
+			}
+			if(index == segments.length) {
+				matches.addAll(mReceivers);
+				return;
+			}
+			final Node exact = mChildren.get(segments[index]);
+			if(exact != null) {
+				exact.match(segments, index + 1, matches);
+			}
+			final Node single = mChildren.get(SINGLE);
+			if(single != null) {
+				single.match(segments, index + 1, matches);
+			}
+		}
+
+		boolean remove(final String[] segments, final int index, final Receiver<?> receiver) {
+			if(index == segments.length) {
+				return mReceivers.remove(receiver);
+			}
+			final Node child = mChildren.get(segments[index]);
+			if(child == null || !child.remove(segments, index + 1, receiver)) {
+				return false;
+			}
+			if(child.isEmpty()) {
+				mChildren.remove(segments[index]);
+			}
+			return true;
+		}
+
+		boolean removeEverywhere(final Receiver<?> receiver) {
+			boolean changed = mReceivers.remove(receiver);
+			final Iterator<Node> iter = mChildren.values().iterator();
+			while(iter.hasNext()) {
+				final Node child = iter.next();
+				if(child.removeEverywhere(receiver)) {
+					changed = true;
+					if(child.isEmpty()) {
+						iter.remove();
+					}
+				}
+			}
+			return changed;
+		}
+
+		boolean isEmpty() {
+			return mReceivers.isEmpty() && mChildren.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Abstract base class for synchronous unicast long emitters.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.AbstractEmitter
+ */
+abstract public class AbstractLongEmitter implements LongEmitter {
+	protected LongReceiver mReceiver;
+
+	@Override
+	public boolean register(@Nonnull final LongReceiver receiver) {
+		if(mReceiver == null) {
+			mReceiver = receiver;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean unregister(@Nonnull final LongReceiver receiver) {
+		if(mReceiver != null && mReceiver.equals(receiver)) {
+			mReceiver = null;
+			return true;
+		}
+		return false;
+	}
+}
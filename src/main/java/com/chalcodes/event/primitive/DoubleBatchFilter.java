@@ -0,0 +1,298 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link DoubleFilter} that compares events to constants and can filter
+ * whole batches. {@link #filter(double[], int, int, double[], int)} copies the
+ * matching elements of a batch into a compacted output batch using a
+ * loop specialized for each comparison, so the comparison is inlined rather
+ * than dispatched once per element. Comparisons follow the
+ * Java operators, so {@code NaN} matches only {@link #notEqualTo(double)}.
+ *
+ * @author Kevin Krumwiede
+ */
+public abstract class DoubleBatchFilter implements DoubleFilter {
+	DoubleBatchFilter() {}
+
+	/**
+	 * Matches events greater than a value.
+	 */
+	@Nonnull public static DoubleBatchFilter greaterThan(final double value) {
+		return new GreaterThan(value);
+	}
+
+	/**
+	 * Matches events greater than or equal to a value.
+	 */
+	@Nonnull public static DoubleBatchFilter atLeast(final double value) {
+		return new AtLeast(value);
+	}
+
+	/**
+	 * Matches events less than a value.
+	 */
+	@Nonnull public static DoubleBatchFilter lessThan(final double value) {
+		return new LessThan(value);
+	}
+
+	/**
+	 * Matches events less than or equal to a value.
+	 */
+	@Nonnull public static DoubleBatchFilter atMost(final double value) {
+		return new AtMost(value);
+	}
+
+	/**
+	 * Matches events equal to a value.
+	 */
+	@Nonnull public static DoubleBatchFilter equalTo(final double value) {
+		return new EqualTo(value);
+	}
+
+	/**
+	 * Matches events not equal to a value.
+	 */
+	@Nonnull public static DoubleBatchFilter notEqualTo(final double value) {
+		return new NotEqualTo(value);
+	}
+
+	/**
+	 * Matches events between two values, inclusive.
+	 *
+	 * @throws IllegalArgumentException if low is greater than high
+	 */
+	@Nonnull public static DoubleBatchFilter between(final double low, final double high) {
+		if(!(low <= high)) {
+			throw new IllegalArgumentException("low must not be greater than high");
+		}
+		return new Between(low, high);
+	}
+
+	/**
+	 * Copies the elements of a batch that match this filter into an output
+	 * batch, preserving their order. The output array must have room for
+	 * {@code len} elements starting at {@code outOff}. The input and output may be
+	 * the same array if {@code outOff <= off}.
+	 *
+	 * @param in the input batch
+	 * @param off the offset of the first input element
+	 * @param len the number of input elements
+	 * @param out the output batch
+	 * @param outOff the offset of the first output element
+	 * @return the number of matching elements
+	 * @throws IndexOutOfBoundsException if either range is out of bounds
+	 */
+	public final int filter(@Nonnull final double[] in, final int off, final int len,
+	                        @Nonnull final double[] out, final int outOff) {
+		if(off < 0 || len < 0 || off > in.length - len || outOff < 0 || outOff > out.length - len) {
+			throw new IndexOutOfBoundsException();
+		}
+		return filterUnchecked(in, off, len, out, outOff);
+	}
+
+	abstract int filterUnchecked(double[] in, int off, int len, double[] out, int outOff);
+
+	/**
+	 * Copies the elements of a batch that match an arbitrary filter into an
+	 * output batch. This is the scalar fallback for filters that are not
+	 * double batch filters.
+	 *
+	 * @see #filter(double[], int, int, double[], int)
+	 */
+	public static int filter(@Nonnull final DoubleFilter filter,
+	                         @Nonnull final double[] in, final int off, final int len,
+	                         @Nonnull final double[] out, final int outOff) {
+		if(filter instanceof DoubleBatchFilter) {
+			return ((DoubleBatchFilter) filter).filter(in, off, len, out, outOff);
+		}
+		if(off < 0 || len < 0 || off > in.length - len || outOff < 0 || outOff > out.length - len) {
+			throw new IndexOutOfBoundsException();
+		}
+		int n = outOff;
+		for(int i = off, end = off + len; i < end; ++i) {
+			final double v = in[i];
+			if(filter.matches(v)) {
+				out[n++] = v;
+			}
+		}
+		return n - outOff;
+	}
+
+	private static final class GreaterThan extends DoubleBatchFilter {
+		private final double mValue;
+
+		GreaterThan(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v > mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v > mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class AtLeast extends DoubleBatchFilter {
+		private final double mValue;
+
+		AtLeast(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v >= mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v >= mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class LessThan extends DoubleBatchFilter {
+		private final double mValue;
+
+		LessThan(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v < mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v < mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class AtMost extends DoubleBatchFilter {
+		private final double mValue;
+
+		AtMost(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v <= mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v <= mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class EqualTo extends DoubleBatchFilter {
+		private final double mValue;
+
+		EqualTo(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v == mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v == mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class NotEqualTo extends DoubleBatchFilter {
+		private final double mValue;
+
+		NotEqualTo(final double value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v != mValue;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v != mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class Between extends DoubleBatchFilter {
+		private final double mLow;
+		private final double mHigh;
+
+		Between(final double low, final double high) {
+			mLow = low;
+			mHigh = high;
+		}
+
+		@Override
+		public boolean matches(final double v) {
+			return v >= mLow & v <= mHigh;
+		}
+
+		@Override
+		int filterUnchecked(final double[] in, final int off, final int len, final double[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final double v = in[i];
+				if(v >= mLow & v <= mHigh) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+}
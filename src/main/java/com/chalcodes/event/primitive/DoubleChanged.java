@@ -0,0 +1,23 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Delivers double events that are not equal to the previous event. Values
+ * are compared like {@link Double#equals(Object)}, so {@code NaN} equals
+ * itself and {@code 0.0} does not equal {@code -0.0}.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Changed
+ */
+public class DoubleChanged extends AbstractDoubleEmitter implements DoubleOp {
+	private boolean mEmitted;
+	private double mLastEmitted;
+
+	@Override
+	public void onEvent(final double event) {
+		if(!mEmitted || Double.doubleToLongBits(event) != Double.doubleToLongBits(mLastEmitted)) {
+			mEmitted = true;
+			mLastEmitted = event;
+			mReceiver.onEvent(event);
+		}
+	}
+}
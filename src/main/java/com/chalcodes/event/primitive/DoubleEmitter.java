@@ -0,0 +1,27 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Pushes double events to receivers. Emitters may be unicast or multicast.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Emitter
+ */
+public interface DoubleEmitter {
+	/**
+	 * Registers a receiver.
+	 *
+	 * @param receiver the receiver to register
+	 * @return true if the receiver was registered; otherwise false
+	 */
+	boolean register(@Nonnull DoubleReceiver receiver);
+
+	/**
+	 * Unregisters a receiver.
+	 *
+	 * @param receiver the receiver to unregister
+	 * @return true if the receiver was unregistered; otherwise false
+	 */
+	boolean unregister(@Nonnull DoubleReceiver receiver);
+}
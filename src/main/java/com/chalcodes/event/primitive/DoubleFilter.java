@@ -0,0 +1,17 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Matches double events based on arbitrary criteria.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Filter
+ */
+public interface DoubleFilter {
+	/**
+	 * Tests whether an event matches this filter.
+	 *
+	 * @param event the event to test
+	 * @return true if the event matches; otherwise false
+	 */
+	boolean matches(double event);
+}
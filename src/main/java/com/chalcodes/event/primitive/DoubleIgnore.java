@@ -0,0 +1,26 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Ignores the first <i>n</i> double events.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Ignore
+ */
+public class DoubleIgnore extends AbstractDoubleEmitter implements DoubleOp {
+	private final int mIgnoreCount;
+	private int mCount;
+
+	public DoubleIgnore(final int count) {
+		mIgnoreCount = count;
+	}
+
+	@Override
+	public void onEvent(final double event) {
+		if(mCount < mIgnoreCount) {
+			++mCount;
+		}
+		else {
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Processes double events. An op may emit zero or more events for each event it
+ * receives.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Op
+ */
+public interface DoubleOp extends DoubleReceiver, DoubleEmitter {}
@@ -0,0 +1,25 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Delivers double events that match a {@link DoubleFilter}. Events that do not
+ * match are silently ignored.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Pass
+ */
+public class DoublePass extends AbstractDoubleEmitter implements DoubleOp {
+	private final DoubleFilter mFilter;
+
+	public DoublePass(@Nonnull final DoubleFilter filter) {
+		mFilter = filter;
+	}
+
+	@Override
+	public void onEvent(final double event) {
+		if(mFilter.matches(event)) {
+			mReceiver.onEvent(event);
+		}
+	}
+}
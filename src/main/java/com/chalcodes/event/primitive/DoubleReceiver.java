@@ -0,0 +1,11 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Receives double events without boxing.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Receiver
+ */
+public interface DoubleReceiver {
+	void onEvent(double event);
+}
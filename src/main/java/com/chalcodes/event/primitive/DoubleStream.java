@@ -0,0 +1,213 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Fluent builders for sequences of double emitters, ops, and receivers. Builders
+ * are not thread safe.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Stream
+ */
+public class DoubleStream {
+	private DoubleStream() {}
+
+	/* General methods. */
+
+	public static EmitterBuilder from(@Nonnull final DoubleEmitter emitter) {
+		return new EmitterBuilder(emitter);
+	}
+
+	public static OpBuilder from(@Nonnull final DoubleOp op) {
+		return new OpBuilder(op);
+	}
+
+	/* Convenience methods. */
+
+	public static OpBuilder block(@Nonnull final DoubleFilter filter) {
+		return from(new DoublePass(invert(filter)));
+	}
+
+	public static OpBuilder changed() {
+		return from(new DoubleChanged());
+	}
+
+	public static OpBuilder debounce(final long intervalNanos) {
+		return from(new DoubleDebounce(intervalNanos));
+	}
+
+	public static OpBuilder ignore(final int count) {
+		return from(new DoubleIgnore(count));
+	}
+
+	public static OpBuilder pass(@Nonnull final DoubleFilter filter) {
+		return from(new DoublePass(filter));
+	}
+
+	private static DoubleFilter invert(@Nonnull final DoubleFilter filter) {
+		return new DoubleFilter() {
+			@Override
+			public boolean matches(final double event) {
+				return !filter.matches(event);
+			}
+		};
+	}
+
+	/**
+	 * Builds a {@link DoubleEmitter} or nothing depending on whether the
+	 * stream ends in a {@link DoubleOp} or a {@link DoubleReceiver}.
+	 */
+	public static class EmitterBuilder {
+		DoubleEmitter mTail;
+		private boolean mTerminated;
+
+		private EmitterBuilder(@Nonnull final DoubleEmitter emitter) {
+			mTail = emitter;
+		}
+
+		private void checkTerminated() {
+			if(mTerminated) {
+				throw new IllegalStateException("this builder has already been terminated");
+			}
+		}
+
+		private void terminate() {
+			checkTerminated();
+			mTerminated = true;
+		}
+
+		private void append(@Nonnull final DoubleReceiver receiver) {
+			if(!mTail.register(receiver)) {
+				throw new IllegalStateException("the receiver could not be registered");
+			}
+		}
+
+		/* General methods. */
+
+		public EmitterBuilder to(@Nonnull final DoubleOp op) {
+			checkTerminated();
+			append(op);
+			mTail = op;
+			return this;
+		}
+
+		public DoubleEmitter end(@Nonnull final DoubleOp op) {
+			return to(op).end();
+		}
+
+		public Object end(@Nonnull final DoubleReceiver receiver) {
+			terminate();
+			append(receiver);
+			return null;
+		}
+
+		public DoubleEmitter end() {
+			terminate();
+			return mTail;
+		}
+
+		/* Convenience methods. */
+
+		public EmitterBuilder block(@Nonnull final DoubleFilter filter) {
+			return to(new DoublePass(invert(filter)));
+		}
+
+		public EmitterBuilder changed() {
+			return to(new DoubleChanged());
+		}
+
+		public EmitterBuilder debounce(final long intervalNanos) {
+			return to(new DoubleDebounce(intervalNanos));
+		}
+
+		public EmitterBuilder ignore(final int count) {
+			return to(new DoubleIgnore(count));
+		}
+
+		public EmitterBuilder pass(@Nonnull final DoubleFilter filter) {
+			return to(new DoublePass(filter));
+		}
+	}
+
+	/**
+	 * Builds a {@link DoubleOp} or a {@link DoubleReceiver} depending on
+	 * which the stream ends in.
+	 */
+	public static class OpBuilder extends EmitterBuilder {
+		private final DoubleOp mHead;
+
+		private OpBuilder(@Nonnull final DoubleOp op) {
+			super(op);
+			mHead = op;
+		}
+
+		/* General methods. */
+
+		@Override
+		public OpBuilder to(@Nonnull final DoubleOp op) {
+			return (OpBuilder) super.to(op);
+		}
+
+		@Override
+		public DoubleOp end(@Nonnull final DoubleOp op) {
+			return to(op).end();
+		}
+
+		@Override
+		public DoubleReceiver end(@Nonnull final DoubleReceiver receiver) {
+			super.end(receiver);
+			return mHead;
+		}
+
+		@Override
+		public DoubleOp end() {
+			super.end();
+			if(mHead == mTail) {
+				return mHead;
+			}
+			return new DoubleOp() {
+				@Override
+				public boolean register(@Nonnull final DoubleReceiver receiver) {
+					return mTail.register(receiver);
+				}
+
+				@Override
+				public boolean unregister(@Nonnull final DoubleReceiver receiver) {
+					return mTail.unregister(receiver);
+				}
+
+				@Override
+				public void onEvent(final double event) {
+					mHead.onEvent(event);
+				}
+			};
+		}
+
+		/* Convenience methods. */
+
+		@Override
+		public OpBuilder block(@Nonnull final DoubleFilter filter) {
+			return (OpBuilder) super.block(filter);
+		}
+
+		@Override
+		public OpBuilder changed() {
+			return (OpBuilder) super.changed();
+		}
+
+		@Override
+		public OpBuilder debounce(final long intervalNanos) {
+			return (OpBuilder) super.debounce(intervalNanos);
+		}
+
+		@Override
+		public OpBuilder ignore(final int count) {
+			return (OpBuilder) super.ignore(count);
+		}
+
+		@Override
+		public OpBuilder pass(@Nonnull final DoubleFilter filter) {
+			return (OpBuilder) super.pass(filter);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Delivers int events that are not equal to the previous event.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Changed
+ */
+public class IntChanged extends AbstractIntEmitter implements IntOp {
+	private boolean mEmitted;
+	private int mLastEmitted;
+
+	@Override
+	public void onEvent(final int event) {
+		if(!mEmitted || event != mLastEmitted) {
+			mEmitted = true;
+			mLastEmitted = event;
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Delivers int events no more often than the specified interval. Events that
+ * arrive too soon after the last delivered event are dropped.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Debounce
+ */
+public class IntDebounce extends AbstractIntEmitter implements IntOp {
+	private static final long NEVER = Long.MIN_VALUE;
+	private final long mIntervalNanos;
+	private long mLastEmit = NEVER;
+
+	public IntDebounce(final long intervalNanos) {
+		mIntervalNanos = intervalNanos;
+	}
+
+	@Override
+	public void onEvent(final int event) {
+		final long now = System.nanoTime();
+		if(now - mLastEmit > mIntervalNanos || mLastEmit == NEVER) {
+			mLastEmit = now;
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * A synchronous multicast int op. Receivers are held in a copy-on-write
+ * array and each receiver may be registered once. Exceptions thrown by
+ * receivers propagate to the caller. This class is not thread safe.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.SimpleEventBus
+ */
+public class IntEventBus implements IntOp {
+	private static final IntReceiver[] EMPTY = new IntReceiver[0];
+	@Nonnull private IntReceiver[] mReceivers = EMPTY;
+
+	@Override
+	public boolean register(@Nonnull final IntReceiver receiver) {
+		if(indexOf(receiver) >= 0) {
+			return false;
+		}
+		final IntReceiver[] copy = Arrays.copyOf(mReceivers, mReceivers.length + 1);
+		copy[mReceivers.length] = receiver;
+		mReceivers = copy;
+		return true;
+	}
+
+	@Override
+	public boolean unregister(@Nonnull final IntReceiver receiver) {
+		final int i = indexOf(receiver);
+		if(i < 0) {
+			return false;
+		}
+		final IntReceiver[] copy = new IntReceiver[mReceivers.length - 1];
+		System.arraycopy(mReceivers, 0, copy, 0, i);
+		System.arraycopy(mReceivers, i + 1, copy, i, copy.length - i);
+		mReceivers = copy;
+		return true;
+	}
+
+	private int indexOf(final IntReceiver receiver) {
+		for(int i = 0; i < mReceivers.length; ++i) {
+			if(mReceivers[i].equals(receiver)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public void onEvent(final int event) {
+		final IntReceiver[] receivers = mReceivers;
+		for(int i = 0; i < receivers.length; ++i) {
+			receivers[i].onEvent(event);
+		}
+	}
+}
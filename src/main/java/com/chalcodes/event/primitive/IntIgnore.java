@@ -0,0 +1,26 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Ignores the first <i>n</i> int events.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Ignore
+ */
+public class IntIgnore extends AbstractIntEmitter implements IntOp {
+	private final int mIgnoreCount;
+	private int mCount;
+
+	public IntIgnore(final int count) {
+		mIgnoreCount = count;
+	}
+
+	@Override
+	public void onEvent(final int event) {
+		if(mCount < mIgnoreCount) {
+			++mCount;
+		}
+		else {
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Delivers int events that match an {@link IntFilter}. Events that do not
+ * match are silently ignored.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Pass
+ */
+public class IntPass extends AbstractIntEmitter implements IntOp {
+	private final IntFilter mFilter;
+
+	public IntPass(@Nonnull final IntFilter filter) {
+		mFilter = filter;
+	}
+
+	@Override
+	public void onEvent(final int event) {
+		if(mFilter.matches(event)) {
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Receives int events without boxing.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Receiver
+ */
+public interface IntReceiver {
+	void onEvent(int event);
+}
@@ -0,0 +1,213 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Fluent builders for sequences of int emitters, ops, and receivers. Builders
+ * are not thread safe.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Stream
+ */
+public class IntStream {
+	private IntStream() {}
+
+	/* General methods. */
+
+	public static EmitterBuilder from(@Nonnull final IntEmitter emitter) {
+		return new EmitterBuilder(emitter);
+	}
+
+	public static OpBuilder from(@Nonnull final IntOp op) {
+		return new OpBuilder(op);
+	}
+
+	/* Convenience methods. */
+
+	public static OpBuilder block(@Nonnull final IntFilter filter) {
+		return from(new IntPass(invert(filter)));
+	}
+
+	public static OpBuilder changed() {
+		return from(new IntChanged());
+	}
+
+	public static OpBuilder debounce(final long intervalNanos) {
+		return from(new IntDebounce(intervalNanos));
+	}
+
+	public static OpBuilder ignore(final int count) {
+		return from(new IntIgnore(count));
+	}
+
+	public static OpBuilder pass(@Nonnull final IntFilter filter) {
+		return from(new IntPass(filter));
+	}
+
+	private static IntFilter invert(@Nonnull final IntFilter filter) {
+		return new IntFilter() {
+			@Override
+			public boolean matches(final int event) {
+				return !filter.matches(event);
+			}
+		};
+	}
+
+	/**
+	 * Builds an {@link IntEmitter} or nothing depending on whether the
+	 * stream ends in an {@link IntOp} or an {@link IntReceiver}.
+	 */
+	public static class EmitterBuilder {
+		IntEmitter mTail;
+		private boolean mTerminated;
+
+		private EmitterBuilder(@Nonnull final IntEmitter emitter) {
+			mTail = emitter;
+		}
+
+		private void checkTerminated() {
+			if(mTerminated) {
+				throw new IllegalStateException("this builder has already been terminated");
+			}
+		}
+
+		private void terminate() {
+			checkTerminated();
+			mTerminated = true;
+		}
+
+		private void append(@Nonnull final IntReceiver receiver) {
+			if(!mTail.register(receiver)) {
+				throw new IllegalStateException("the receiver could not be registered");
+			}
+		}
+
+		/* General methods. */
+
+		public EmitterBuilder to(@Nonnull final IntOp op) {
+			checkTerminated();
+			append(op);
+			mTail = op;
+			return this;
+		}
+
+		public IntEmitter end(@Nonnull final IntOp op) {
+			return to(op).end();
+		}
+
+		public Object end(@Nonnull final IntReceiver receiver) {
+			terminate();
+			append(receiver);
+			return null;
+		}
+
+		public IntEmitter end() {
+			terminate();
+			return mTail;
+		}
+
+		/* Convenience methods. */
+
+		public EmitterBuilder block(@Nonnull final IntFilter filter) {
+			return to(new IntPass(invert(filter)));
+		}
+
+		public EmitterBuilder changed() {
+			return to(new IntChanged());
+		}
+
+		public EmitterBuilder debounce(final long intervalNanos) {
+			return to(new IntDebounce(intervalNanos));
+		}
+
+		public EmitterBuilder ignore(final int count) {
+			return to(new IntIgnore(count));
+		}
+
+		public EmitterBuilder pass(@Nonnull final IntFilter filter) {
+			return to(new IntPass(filter));
+		}
+	}
+
+	/**
+	 * Builds an {@link IntOp} or an {@link IntReceiver} depending on
+	 * which the stream ends in.
+	 */
+	public static class OpBuilder extends EmitterBuilder {
+		private final IntOp mHead;
+
+		private OpBuilder(@Nonnull final IntOp op) {
+			super(op);
+			mHead = op;
+		}
+
+		/* General methods. */
+
+		@Override
+		public OpBuilder to(@Nonnull final IntOp op) {
+			return (OpBuilder) super.to(op);
+		}
+
+		@Override
+		public IntOp end(@Nonnull final IntOp op) {
+			return to(op).end();
+		}
+
+		@Override
+		public IntReceiver end(@Nonnull final IntReceiver receiver) {
+			super.end(receiver);
+			return mHead;
+		}
+
+		@Override
+		public IntOp end() {
+			super.end();
+			if(mHead == mTail) {
+				return mHead;
+			}
+			return new IntOp() {
+				@Override
+				public boolean register(@Nonnull final IntReceiver receiver) {
+					return mTail.register(receiver);
+				}
+
+				@Override
+				public boolean unregister(@Nonnull final IntReceiver receiver) {
+					return mTail.unregister(receiver);
+				}
+
+				@Override
+				public void onEvent(final int event) {
+					mHead.onEvent(event);
+				}
+			};
+		}
+
+		/* Convenience methods. */
+
+		@Override
+		public OpBuilder block(@Nonnull final IntFilter filter) {
+			return (OpBuilder) super.block(filter);
+		}
+
+		@Override
+		public OpBuilder changed() {
+			return (OpBuilder) super.changed();
+		}
+
+		@Override
+		public OpBuilder debounce(final long intervalNanos) {
+			return (OpBuilder) super.debounce(intervalNanos);
+		}
+
+		@Override
+		public OpBuilder ignore(final int count) {
+			return (OpBuilder) super.ignore(count);
+		}
+
+		@Override
+		public OpBuilder pass(@Nonnull final IntFilter filter) {
+			return (OpBuilder) super.pass(filter);
+		}
+	}
+}
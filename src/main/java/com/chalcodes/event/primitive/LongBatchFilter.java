@@ -0,0 +1,298 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link LongFilter} that compares events to constants and can filter
+ * whole batches. {@link #filter(long[], int, int, long[], int)} copies the
+ * matching elements of a batch into a compacted output batch using a
+ * loop specialized for each comparison, so the comparison is inlined rather
+ * than dispatched once per element.
+ *
+ * @author Kevin Krumwiede
+ */
+public abstract class LongBatchFilter implements LongFilter {
+	LongBatchFilter() {}
+
+	/**
+	 * Matches events greater than a value.
+	 */
+	@Nonnull public static LongBatchFilter greaterThan(final long value) {
+		return new GreaterThan(value);
+	}
+
+	/**
+	 * Matches events greater than or equal to a value.
+	 */
+	@Nonnull public static LongBatchFilter atLeast(final long value) {
+		return new AtLeast(value);
+	}
+
+	/**
+	 * Matches events less than a value.
+	 */
+	@Nonnull public static LongBatchFilter lessThan(final long value) {
+		return new LessThan(value);
+	}
+
+	/**
+	 * Matches events less than or equal to a value.
+	 */
+	@Nonnull public static LongBatchFilter atMost(final long value) {
+		return new AtMost(value);
+	}
+
+	/**
+	 * Matches events equal to a value.
+	 */
+	@Nonnull public static LongBatchFilter equalTo(final long value) {
+		return new EqualTo(value);
+	}
+
+	/**
+	 * Matches events not equal to a value.
+	 */
+	@Nonnull public static LongBatchFilter notEqualTo(final long value) {
+		return new NotEqualTo(value);
+	}
+
+	/**
+	 * Matches events between two values, inclusive.
+	 *
+	 * @throws IllegalArgumentException if low is greater than high
+	 */
+	@Nonnull public static LongBatchFilter between(final long low, final long high) {
+		if(!(low <= high)) {
+			throw new IllegalArgumentException("low must not be greater than high");
+		}
+		return new Between(low, high);
+	}
+
+	/**
+	 * Copies the elements of a batch that match this filter into an output
+	 * batch, preserving their order. The output array must have room for
+	 * {@code len} elements starting at {@code outOff}. The input and output may be
+	 * the same array if {@code outOff <= off}.
+	 *
+	 * @param in the input batch
+	 * @param off the offset of the first input element
+	 * @param len the number of input elements
+	 * @param out the output batch
+	 * @param outOff the offset of the first output element
+	 * @return the number of matching elements
+	 * @throws IndexOutOfBoundsException if either range is out of bounds
+	 */
+	public final int filter(@Nonnull final long[] in, final int off, final int len,
+	                        @Nonnull final long[] out, final int outOff) {
+		if(off < 0 || len < 0 || off > in.length - len || outOff < 0 || outOff > out.length - len) {
+			throw new IndexOutOfBoundsException();
+		}
+		return filterUnchecked(in, off, len, out, outOff);
+	}
+
+	abstract int filterUnchecked(long[] in, int off, int len, long[] out, int outOff);
+
+	/**
+	 * Copies the elements of a batch that match an arbitrary filter into an
+	 * output batch. This is the scalar fallback for filters that are not
+	 * long batch filters.
+	 *
+	 * @see #filter(long[], int, int, long[], int)
+	 */
+	public static int filter(@Nonnull final LongFilter filter,
+	                         @Nonnull final long[] in, final int off, final int len,
+	                         @Nonnull final long[] out, final int outOff) {
+		if(filter instanceof LongBatchFilter) {
+			return ((LongBatchFilter) filter).filter(in, off, len, out, outOff);
+		}
+		if(off < 0 || len < 0 || off > in.length - len || outOff < 0 || outOff > out.length - len) {
+			throw new IndexOutOfBoundsException();
+		}
+		int n = outOff;
+		for(int i = off, end = off + len; i < end; ++i) {
+			final long v = in[i];
+			if(filter.matches(v)) {
+				out[n++] = v;
+			}
+		}
+		return n - outOff;
+	}
+
+	private static final class GreaterThan extends LongBatchFilter {
+		private final long mValue;
+
+		GreaterThan(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v > mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v > mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class AtLeast extends LongBatchFilter {
+		private final long mValue;
+
+		AtLeast(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v >= mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v >= mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class LessThan extends LongBatchFilter {
+		private final long mValue;
+
+		LessThan(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v < mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v < mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class AtMost extends LongBatchFilter {
+		private final long mValue;
+
+		AtMost(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v <= mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v <= mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class EqualTo extends LongBatchFilter {
+		private final long mValue;
+
+		EqualTo(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v == mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v == mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class NotEqualTo extends LongBatchFilter {
+		private final long mValue;
+
+		NotEqualTo(final long value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return v != mValue;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(v != mValue) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+
+	private static final class Between extends LongBatchFilter {
+		private final long mLow;
+		private final long mSpan;
+
+		Between(final long low, final long high) {
+			mLow = low;
+			// unsigned comparison of the offset covers both bounds at once
+			mSpan = (high - low) ^ Long.MIN_VALUE;
+		}
+
+		@Override
+		public boolean matches(final long v) {
+			return ((v - mLow) ^ Long.MIN_VALUE) <= mSpan;
+		}
+
+		@Override
+		int filterUnchecked(final long[] in, final int off, final int len, final long[] out, final int outOff) {
+			int n = outOff;
+			for(int i = off, end = off + len; i < end; ++i) {
+				final long v = in[i];
+				if(((v - mLow) ^ Long.MIN_VALUE) <= mSpan) {
+					out[n++] = v;
+				}
+			}
+			return n - outOff;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Delivers long events that are not equal to the previous event.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Changed
+ */
+public class LongChanged extends AbstractLongEmitter implements LongOp {
+	private boolean mEmitted;
+	private long mLastEmitted;
+
+	@Override
+	public void onEvent(final long event) {
+		if(!mEmitted || event != mLastEmitted) {
+			mEmitted = true;
+			mLastEmitted = event;
+			mReceiver.onEvent(event);
+		}
+	}
+}
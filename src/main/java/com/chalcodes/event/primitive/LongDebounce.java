@@ -0,0 +1,27 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Delivers long events no more often than the specified interval. Events that
+ * arrive too soon after the last delivered event are dropped.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Debounce
+ */
+public class LongDebounce extends AbstractLongEmitter implements LongOp {
+	private static final long NEVER = Long.MIN_VALUE;
+	private final long mIntervalNanos;
+	private long mLastEmit = NEVER;
+
+	public LongDebounce(final long intervalNanos) {
+		mIntervalNanos = intervalNanos;
+	}
+
+	@Override
+	public void onEvent(final long event) {
+		final long now = System.nanoTime();
+		if(now - mLastEmit > mIntervalNanos || mLastEmit == NEVER) {
+			mLastEmit = now;
+			mReceiver.onEvent(event);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Ignores the first <i>n</i> long events.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Ignore
+ */
+public class LongIgnore extends AbstractLongEmitter implements LongOp {
+	private final int mIgnoreCount;
+	private int mCount;
+
+	public LongIgnore(final int count) {
+		mIgnoreCount = count;
+	}
+
+	@Override
+	public void onEvent(final long event) {
+		if(mCount < mIgnoreCount) {
+			++mCount;
+		}
+		else {
+			mReceiver.onEvent(event);
+		}
+	}
+}
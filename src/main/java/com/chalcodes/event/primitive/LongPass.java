@@ -0,0 +1,25 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Delivers long events that match a {@link LongFilter}. Events that do not
+ * match are silently ignored.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.ops.Pass
+ */
+public class LongPass extends AbstractLongEmitter implements LongOp {
+	private final LongFilter mFilter;
+
+	public LongPass(@Nonnull final LongFilter filter) {
+		mFilter = filter;
+	}
+
+	@Override
+	public void onEvent(final long event) {
+		if(mFilter.matches(event)) {
+			mReceiver.onEvent(event);
+		}
+	}
+}
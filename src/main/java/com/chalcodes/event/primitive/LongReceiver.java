@@ -0,0 +1,11 @@
+package com.chalcodes.event.primitive;
+
+/**
+ * Receives long events without boxing.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Receiver
+ */
+public interface LongReceiver {
+	void onEvent(long event);
+}
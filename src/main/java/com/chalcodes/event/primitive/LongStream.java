@@ -0,0 +1,213 @@
+package com.chalcodes.event.primitive;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Fluent builders for sequences of long emitters, ops, and receivers. Builders
+ * are not thread safe.
+ *
+ * @author Kevin Krumwiede
+ * @see com.chalcodes.event.Stream
+ */
+public class LongStream {
+	private LongStream() {}
+
+	/* General methods. */
+
+	public static EmitterBuilder from(@Nonnull final LongEmitter emitter) {
+		return new EmitterBuilder(emitter);
+	}
+
+	public static OpBuilder from(@Nonnull final LongOp op) {
+		return new OpBuilder(op);
+	}
+
+	/* Convenience methods. */
+
+	public static OpBuilder block(@Nonnull final LongFilter filter) {
+		return from(new LongPass(invert(filter)));
+	}
+
+	public static OpBuilder changed() {
+		return from(new LongChanged());
+	}
+
+	public static OpBuilder debounce(final long intervalNanos) {
+		return from(new LongDebounce(intervalNanos));
+	}
+
+	public static OpBuilder ignore(final int count) {
+		return from(new LongIgnore(count));
+	}
+
+	public static OpBuilder pass(@Nonnull final LongFilter filter) {
+		return from(new LongPass(filter));
+	}
+
+	private static LongFilter invert(@Nonnull final LongFilter filter) {
+		return new LongFilter() {
+			@Override
+			public boolean matches(final long event) {
+				return !filter.matches(event);
+			}
+		};
+	}
+
+	/**
+	 * Builds a {@link LongEmitter} or nothing depending on whether the
+	 * stream ends in a {@link LongOp} or a {@link LongReceiver}.
+	 */
+	public static class EmitterBuilder {
+		LongEmitter mTail;
+		private boolean mTerminated;
+
+		private EmitterBuilder(@Nonnull final LongEmitter emitter) {
+			mTail = emitter;
+		}
+
+		private void checkTerminated() {
+			if(mTerminated) {
+				throw new IllegalStateException("this builder has already been terminated");
+			}
+		}
+
+		private void terminate() {
+			checkTerminated();
+			mTerminated = true;
+		}
+
+		private void append(@Nonnull final LongReceiver receiver) {
+			if(!mTail.register(receiver)) {
+				throw new IllegalStateException("the receiver could not be registered");
+			}
+		}
+
+		/* General methods. */
+
+		public EmitterBuilder to(@Nonnull final LongOp op) {
+			checkTerminated();
+			append(op);
+			mTail = op;
+			return this;
+		}
+
+		public LongEmitter end(@Nonnull final LongOp op) {
+			return to(op).end();
+		}
+
+		public Object end(@Nonnull final LongReceiver receiver) {
+			terminate();
+			append(receiver);
+			return null;
+		}
+
+		public LongEmitter end() {
+			terminate();
+			return mTail;
+		}
+
+		/* Convenience methods. */
+
+		public EmitterBuilder block(@Nonnull final LongFilter filter) {
+			return to(new LongPass(invert(filter)));
+		}
+
+		public EmitterBuilder changed() {
+			return to(new LongChanged());
+		}
+
+		public EmitterBuilder debounce(final long intervalNanos) {
+			return to(new LongDebounce(intervalNanos));
+		}
+
+		public EmitterBuilder ignore(final int count) {
+			return to(new LongIgnore(count));
+		}
+
+		public EmitterBuilder pass(@Nonnull final LongFilter filter) {
+			return to(new LongPass(filter));
+		}
+	}
+
+	/**
+	 * Builds a {@link LongOp} or a {@link LongReceiver} depending on
+	 * which the stream ends in.
+	 */
+	public static class OpBuilder extends EmitterBuilder {
+		private final LongOp mHead;
+
+		private OpBuilder(@Nonnull final LongOp op) {
+			super(op);
+			mHead = op;
+		}
+
+		/* General methods. */
+
+		@Override
+		public OpBuilder to(@Nonnull final LongOp op) {
+			return (OpBuilder) super.to(op);
+		}
+
+		@Override
+		public LongOp end(@Nonnull final LongOp op) {
+			return to(op).end();
+		}
+
+		@Override
+		public LongReceiver end(@Nonnull final LongReceiver receiver) {
+			super.end(receiver);
+			return mHead;
+		}
+
+		@Override
+		public LongOp end() {
+			super.end();
+			if(mHead == mTail) {
+				return mHead;
+			}
+			return new LongOp() {
+				@Override
+				public boolean register(@Nonnull final LongReceiver receiver) {
+					return mTail.register(receiver);
+				}
+
+				@Override
+				public boolean unregister(@Nonnull final LongReceiver receiver) {
+					return mTail.unregister(receiver);
+				}
+
+				@Override
+				public void onEvent(final long event) {
+					mHead.onEvent(event);
+				}
+			};
+		}
+
+		/* Convenience methods. */
+
+		@Override
+		public OpBuilder block(@Nonnull final LongFilter filter) {
+			return (OpBuilder) super.block(filter);
+		}
+
+		@Override
+		public OpBuilder changed() {
+			return (OpBuilder) super.changed();
+		}
+
+		@Override
+		public OpBuilder debounce(final long intervalNanos) {
+			return (OpBuilder) super.debounce(intervalNanos);
+		}
+
+		@Override
+		public OpBuilder ignore(final int count) {
+			return (OpBuilder) super.ignore(count);
+		}
+
+		@Override
+		public OpBuilder pass(@Nonnull final LongFilter filter) {
+			return (OpBuilder) super.pass(filter);
+		}
+	}
+}
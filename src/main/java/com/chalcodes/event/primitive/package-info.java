@@ -0,0 +1,9 @@
+/**
+ * Receivers, emitters, ops, and stream builders specialized for {@code int},
+ * {@code long}, and {@code double} events, so numeric pipelines can run
+ * without boxing. Each type mirrors its counterpart in {@link
+ * com.chalcodes.event} or {@link com.chalcodes.event.ops}.
+ *
+ * @author Kevin Krumwiede
+ */
+package com.chalcodes.event.primitive;
@@ -0,0 +1,21 @@
+package com.chalcodes.util;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A collection whose contents can be read as an array without allocation.
+ * Callers can iterate the array with an indexed loop instead of creating an
+ * {@link java.util.Iterator}.
+ *
+ * @author Kevin Krumwiede
+ */
+public interface ArraySnapshot {
+	/**
+	 * Returns an array containing the current elements. The array must not be
+	 * modified by the caller, and it is not affected by subsequent
+	 * modifications of the collection.
+	 *
+	 * @return the current elements
+	 */
+	@Nonnull Object[] snapshot();
+}
@@ -0,0 +1,116 @@
+package com.chalcodes.util;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread safe array of elements that is copied on modification. Each copy
+ * is published by compare-and-set, and a modification that loses a race is
+ * retried against the newer copy, so no updates are lost. Like {@link
+ * CopyOnWriteArray}, it may contain duplicate elements and preserves
+ * insertion order, and its contents can be read without allocation or
+ * locking through {@link #snapshot()}.
+ * <p>
+ * An array created to close when empty stops accepting elements once its
+ * last element is removed. This lets an owner discard an empty array
+ * without racing a concurrent add.
+ *
+ * @param <E> the element type
+ * @author Kevin Krumwiede
+ */
+public class AtomicArray<E> implements ArraySnapshot {
+	private static final Object[] EMPTY = new Object[0];
+	/** Marks a closed array. */
+	private static final Object[] CLOSED = new Object[0];
+	private final AtomicReference<Object[]> mArray = new AtomicReference<Object[]>(EMPTY);
+	private final boolean mCloseWhenEmpty;
+
+	public AtomicArray() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new array.
+	 *
+	 * @param closeWhenEmpty true if the array should stop accepting elements
+	 * when its last element is removed
+	 */
+	public AtomicArray(final boolean closeWhenEmpty) {
+		mCloseWhenEmpty = closeWhenEmpty;
+	}
+
+	@Nonnull
+	@Override
+	public Object[] snapshot() {
+		return mArray.get();
+	}
+
+	/**
+	 * Appends an element.
+	 *
+	 * @param e the element
+	 * @return true if the element was added; false if this array is closed
+	 */
+	public boolean add(@Nonnull final E e) {
+		Object[] current;
+		Object[] copy;
+		do {
+			current = mArray.get();
+			if(current == CLOSED) {
+				return false;
+			}
+			copy = Arrays.copyOf(current, current.length + 1);
+			copy[current.length] = e;
+		}
+		while(!mArray.compareAndSet(current, copy));
+		return true;
+	}
+
+	/**
+	 * Removes the first occurrence of an element.
+	 *
+	 * @param o the element
+	 * @return true if the element was removed; false if it was not present
+	 */
+	public boolean remove(@Nonnull final Object o) {
+		Object[] current;
+		Object[] copy;
+		do {
+			current = mArray.get();
+			final int index = indexOf(current, o);
+			if(index < 0) {
+				return false;
+			}
+			if(current.length == 1) {
+				copy = mCloseWhenEmpty ? CLOSED : EMPTY;
+			}
+			else {
+				copy = new Object[current.length - 1];
+				System.arraycopy(current, 0, copy, 0, index);
+				System.arraycopy(current, index + 1, copy, index, copy.length - index);
+			}
+		}
+		while(!mArray.compareAndSet(current, copy));
+		return true;
+	}
+
+	/**
+	 * Tests whether this array is closed.
+	 *
+	 * @return true if this array was created to close when empty and its
+	 * last element has been removed
+	 */
+	public boolean isClosed() {
+		return mArray.get() == CLOSED;
+	}
+
+	private static int indexOf(final Object[] array, final Object o) {
+		for(int i = 0; i < array.length; ++i) {
+			if(o.equals(array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -138,6 +138,56 @@ public class CollectionFactories {
 		return COPY_ON_WRITE_ARRAY_SET;
 	}
 
+	private static final CollectionFactory COPY_ON_WRITE_ARRAY = new CollectionFactory() {
+		@Nonnull
+		@Override
+		public <E> Collection<E> create() {
+			return new CopyOnWriteArray<E>();
+		}
+
+		@Nonnull
+		@Override
+		public <E> Collection<E> createFrom(@Nonnull final Collection<E> original) {
+			return new CopyOnWriteArray<E>(original);
+		}
+	};
+
+	/**
+	 * Returns a collection factory that creates instances of {@link
+	 * CopyOnWriteArray}. Buses using these collections deliver events
+	 * without allocating iterators.
+	 *
+	 * @return a {@link CopyOnWriteArray} factory
+	 */
+	@Nonnull public static CollectionFactory copyOnWriteArray() {
+		return COPY_ON_WRITE_ARRAY;
+	}
+
+	private static final CollectionFactory HASH_TRIE_SET = new CollectionFactory() {
+		@Nonnull
+		@Override
+		public <E> Collection<E> create() {
+			return new HashTrieSet<E>();
+		}
+
+		@Nonnull
+		@Override
+		public <E> Collection<E> createFrom(@Nonnull final Collection<E> original) {
+			return new HashTrieSet<E>(original);
+		}
+	};
+
+	/**
+	 * Returns a collection factory that creates instances of {@link
+	 * HashTrieSet}. These collections are already thread safe and copy on
+	 * write, so they should not be wrapped in a {@link CopyOnWriteCollection}.
+	 *
+	 * @return a {@link HashTrieSet} factory
+	 */
+	@Nonnull public static CollectionFactory hashTrieSet() {
+		return HASH_TRIE_SET;
+	}
+
 	/**
 	 * Returns a collection factory that creates instances of {@link
 	 * CopyOnWriteCollection} that use the specified collection factory. This
@@ -161,4 +211,30 @@ public class CollectionFactories {
 			}
 		};
 	}
+
+	/**
+	 * Returns a collection factory that creates instances of {@link
+	 * ConcurrentCopyOnWriteCollection} that use the specified collection
+	 * factory. Buses using these collections accept registrations from any
+	 * thread, including during delivery.
+	 *
+	 * @return a {@link ConcurrentCopyOnWriteCollection} factory
+	 */
+	@Nonnull public static CollectionFactory concurrentCopyOnWriteCollection(@Nonnull final CollectionFactory factory) {
+		return new CollectionFactory() {
+			@Nonnull
+			@Override
+			public <E> Collection<E> create() {
+				return new ConcurrentCopyOnWriteCollection<E>(factory);
+			}
+
+			@Nonnull
+			@Override
+			public <E> Collection<E> createFrom(@Nonnull final Collection<E> original) {
+				final Collection<E> copy = new ConcurrentCopyOnWriteCollection<E>(factory);
+				copy.addAll(original);
+				return copy;
+			}
+		};
+	}
 }
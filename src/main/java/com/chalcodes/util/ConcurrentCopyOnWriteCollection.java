@@ -0,0 +1,160 @@
+package com.chalcodes.util;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread safe {@link Collection} wrapper that copies its delegate on
+ * modification. Each copy is published by compare-and-set, and a modification
+ * that loses a race is retried against the newer copy, so no updates are
+ * lost. Reads and iteration see an immutable snapshot without locking.
+ *
+ * @param <E> the element type
+ * @author Kevin Krumwiede
+ * @see CopyOnWriteCollection
+ */
+public class ConcurrentCopyOnWriteCollection<E> implements Collection<E> {
+	private final CollectionFactory mCollectionFactory;
+	private final AtomicReference<Collection<E>> mCollection =
+			new AtomicReference<Collection<E>>(Collections.<E>emptyList());
+
+	public ConcurrentCopyOnWriteCollection(final CollectionFactory collectionFactory) {
+		mCollectionFactory = collectionFactory;
+	}
+
+	/**
+	 * A modification of a private copy of the delegate.
+	 */
+	private interface Mutation<E> {
+		boolean apply(Collection<E> copy);
+	}
+
+	private boolean mutate(final Mutation<E> mutation) {
+		while(true) {
+			final Collection<E> current = mCollection.get();
+			final Collection<E> copy = mCollectionFactory.createFrom(current);
+			if(!mutation.apply(copy)) {
+				return false;
+			}
+			if(mCollection.compareAndSet(current, copy)) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public boolean add(final E e) {
+		return mutate(new Mutation<E>() {
+			@Override
+			public boolean apply(final Collection<E> copy) {
+				return copy.add(e);
+			}
+		});
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		return mutate(new Mutation<E>() {
+			@Override
+			public boolean apply(final Collection<E> copy) {
+				return copy.remove(o);
+			}
+		});
+	}
+
+	@Override
+	public boolean addAll(@Nonnull final Collection<? extends E> c) {
+		return mutate(new Mutation<E>() {
+			@Override
+			public boolean apply(final Collection<E> copy) {
+				return copy.addAll(c);
+			}
+		});
+	}
+
+	@Override
+	public boolean removeAll(@Nonnull final Collection<?> c) {
+		return mutate(new Mutation<E>() {
+			@Override
+			public boolean apply(final Collection<E> copy) {
+				return copy.removeAll(c);
+			}
+		});
+	}
+
+	@Override
+	public boolean retainAll(@Nonnull final Collection<?> c) {
+		return mutate(new Mutation<E>() {
+			@Override
+			public boolean apply(final Collection<E> copy) {
+				return copy.retainAll(c);
+			}
+		});
+	}
+
+	@Override
+	public void clear() {
+		mCollection.set(Collections.<E>emptyList());
+	}
+
+	@Nonnull
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private final Iterator<E> iter = mCollection.get().iterator();
+
+			@Override
+			public boolean hasNext() {
+				return iter.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iter.next();
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	/* Boring delegates. */
+
+	@Override
+	public int size() {
+		return mCollection.get().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return mCollection.get().isEmpty();
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return mCollection.get().contains(o);
+	}
+
+	@Nonnull
+	@Override
+	public Object[] toArray() {
+		return mCollection.get().toArray();
+	}
+
+	@Nonnull
+	@Override
+	public <T> T[] toArray(@Nonnull final T[] a) {
+		//noinspection SuspiciousToArrayCall
+		return mCollection.get().toArray(a);
+	}
+
+	@Override
+	public boolean containsAll(@Nonnull final Collection<?> c) {
+		return mCollection.get().containsAll(c);
+	}
+}
@@ -0,0 +1,173 @@
+package com.chalcodes.util;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Collection} backed by an array that is copied on modification.
+ * Like a list, it may contain duplicate elements and preserves insertion
+ * order. Unlike {@link CopyOnWriteCollection}, its contents can be read
+ * without allocation through {@link #snapshot()}. This class is not thread
+ * safe.
+ *
+ * @param <E> the element type
+ * @author Kevin Krumwiede
+ */
+public class CopyOnWriteArray<E> implements Collection<E>, ArraySnapshot {
+	private static final Object[] EMPTY = new Object[0];
+	private Object[] mArray = EMPTY;
+
+	public CopyOnWriteArray() {}
+
+	public CopyOnWriteArray(@Nonnull final Collection<? extends E> original) {
+		addAll(original);
+	}
+
+	@Nonnull
+	@Override
+	public Object[] snapshot() {
+		return mArray;
+	}
+
+	@Override
+	public boolean add(final E e) {
+		final Object[] copy = Arrays.copyOf(mArray, mArray.length + 1);
+		copy[mArray.length] = e;
+		mArray = copy;
+		return true;
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		final int index = indexOf(mArray, o);
+		if(index < 0) {
+			return false;
+		}
+		final Object[] copy = new Object[mArray.length - 1];
+		System.arraycopy(mArray, 0, copy, 0, index);
+		System.arraycopy(mArray, index + 1, copy, index, copy.length - index);
+		mArray = copy.length == 0 ? EMPTY : copy;
+		return true;
+	}
+
+	@Override
+	public boolean addAll(@Nonnull final Collection<? extends E> c) {
+		final Object[] added = c.toArray();
+		if(added.length == 0) {
+			return false;
+		}
+		final Object[] copy = Arrays.copyOf(mArray, mArray.length + added.length);
+		System.arraycopy(added, 0, copy, mArray.length, added.length);
+		mArray = copy;
+		return true;
+	}
+
+	@Override
+	public boolean removeAll(@Nonnull final Collection<?> c) {
+		return retain(c, false);
+	}
+
+	@Override
+	public boolean retainAll(@Nonnull final Collection<?> c) {
+		return retain(c, true);
+	}
+
+	private boolean retain(final Collection<?> c, final boolean contained) {
+		final Object[] copy = new Object[mArray.length];
+		int size = 0;
+		for(final Object o : mArray) {
+			if(c.contains(o) == contained) {
+				copy[size++] = o;
+			}
+		}
+		if(size == mArray.length) {
+			return false;
+		}
+		mArray = size == 0 ? EMPTY : Arrays.copyOf(copy, size);
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		mArray = EMPTY;
+	}
+
+	@Nonnull
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private final Object[] mSnapshot = mArray;
+			private int mIndex;
+
+			@Override
+			public boolean hasNext() {
+				return mIndex < mSnapshot.length;
+			}
+
+			@Override
+			public E next() {
+				if(mIndex >= mSnapshot.length) {
+					throw new NoSuchElementException();
+				}
+				@SuppressWarnings("unchecked") // only elements of type E are added
+				final E e = (E) mSnapshot[mIndex++];
+				return e;
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return mArray.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return mArray.length == 0;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return indexOf(mArray, o) >= 0;
+	}
+
+	@Nonnull
+	@Override
+	public Object[] toArray() {
+		return mArray.clone();
+	}
+
+	@Nonnull
+	@Override
+	public <T> T[] toArray(@Nonnull final T[] a) {
+		//noinspection SuspiciousToArrayCall
+		return Arrays.asList(mArray).toArray(a);
+	}
+
+	@Override
+	public boolean containsAll(@Nonnull final Collection<?> c) {
+		for(final Object o : c) {
+			if(!contains(o)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int indexOf(final Object[] array, final Object o) {
+		for(int i = 0; i < array.length; ++i) {
+			if(o == null ? array[i] == null : o.equals(array[i])) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -7,6 +7,7 @@ import java.util.Iterator;
 
 /**
  * A {@link Collection} wrapper that copies its delegate on modification.
+ * This class is not thread safe; see {@link ConcurrentCopyOnWriteCollection}.
  *
  * @param <E> the element type
  * @author Kevin Krumwiede
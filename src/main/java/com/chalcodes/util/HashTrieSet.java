@@ -0,0 +1,383 @@
+package com.chalcodes.util;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread safe set backed by a persistent hash array mapped trie. Adding or
+ * removing an element copies only the path from the root to the element,
+ * which is at most seven nodes of up to 32 entries each, and shares the rest
+ * of the trie with the previous version. Each new version is published by
+ * compare-and-set. Reads and iterators see an immutable snapshot without
+ * locking or copying.
+ * <p>
+ * This is intended for receiver collections with many receivers that are
+ * frequently registered and unregistered, where copying the whole collection
+ * on each modification would be too slow. Null elements are not permitted.
+ *
+ * @param <E> the element type
+ * @author Kevin Krumwiede
+ * @see CollectionFactories#hashTrieSet()
+ */
+public class HashTrieSet<E> extends AbstractSet<E> {
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	private static final Snapshot EMPTY = new Snapshot(new BitmapNode(0, new Object[0]), 0);
+
+	private final AtomicReference<Snapshot> mSnapshot = new AtomicReference<Snapshot>(EMPTY);
+
+	public HashTrieSet() {}
+
+	public HashTrieSet(@Nonnull final Collection<? extends E> c) {
+		addAll(c);
+	}
+
+	private static int hash(final Object o) {
+		final int h = o.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	@Override
+	public boolean add(final E e) {
+		if(e == null) {
+			throw new NullPointerException();
+		}
+		final int hash = hash(e);
+		while(true) {
+			final Snapshot current = mSnapshot.get();
+			final Node root = current.mRoot.add(e, hash, 0);
+			if(root == current.mRoot) {
+				return false;
+			}
+			if(mSnapshot.compareAndSet(current, new Snapshot(root, current.mSize + 1))) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public boolean remove(final Object o) {
+		if(o == null) {
+			return false;
+		}
+		final int hash = hash(o);
+		while(true) {
+			final Snapshot current = mSnapshot.get();
+			final Node root = current.mRoot.remove(o, hash, 0);
+			if(root == current.mRoot) {
+				return false;
+			}
+			final Snapshot next = root == null ? EMPTY : new Snapshot(root, current.mSize - 1);
+			if(mSnapshot.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		return o != null && mSnapshot.get().mRoot.contains(o, hash(o), 0);
+	}
+
+	@Override
+	public void clear() {
+		mSnapshot.set(EMPTY);
+	}
+
+	@Override
+	public int size() {
+		return mSnapshot.get().mSize;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return mSnapshot.get().mSize == 0;
+	}
+
+	/**
+	 * Returns an iterator over a snapshot of this set. The iterator is not
+	 * affected by subsequent modifications. Its {@code remove} method removes
+	 * the last element returned from this set, not from the snapshot.
+	 *
+	 * @return an iterator
+	 */
+	@Nonnull
+	@Override
+	public Iterator<E> iterator() {
+		return new TrieIterator(mSnapshot.get().mRoot);
+	}
+
+	private static final class Snapshot {
+		final Node mRoot;
+		final int mSize;
+
+		Snapshot(final Node root, final int size) {
+			mRoot = root;
+			mSize = size;
+		}
+	}
+
+	/**
+	 * An immutable trie node. Entries are either elements or child nodes;
+	 * since this class is private, no element can be a node.
+	 */
+	private static abstract class Node {
+		/** Returns this node if the element was already present. */
+		abstract Node add(Object e, int hash, int shift);
+
+		/** Returns this node if the element was absent, or null if the result is empty. */
+		abstract Node remove(Object o, int hash, int shift);
+
+		abstract boolean contains(Object o, int hash, int shift);
+
+		/** Returns the only entry if it is an element; otherwise null. */
+		abstract Object single();
+
+		abstract Object[] entries();
+	}
+
+	/**
+	 * Creates a node containing two entries with different hashes, or two
+	 * elements with the same hash.
+	 */
+	private static Node pair(final Object a, final int hashA, final Object b, final int hashB, final int shift) {
+		if(hashA == hashB) {
+			return new CollisionNode(hashA, new Object[] { a, b });
+		}
+		final int indexA = (hashA >>> shift) & MASK;
+		final int indexB = (hashB >>> shift) & MASK;
+		if(indexA == indexB) {
+			return new BitmapNode(1 << indexA, new Object[] { pair(a, hashA, b, hashB, shift + BITS) });
+		}
+		final Object[] array = indexA < indexB ? new Object[] { a, b } : new Object[] { b, a };
+		return new BitmapNode((1 << indexA) | (1 << indexB), array);
+	}
+
+	private static final class BitmapNode extends Node {
+		private final int mBitmap;
+		private final Object[] mArray;
+
+		BitmapNode(final int bitmap, final Object[] array) {
+			mBitmap = bitmap;
+			mArray = array;
+		}
+
+		@Override
+		Node add(final Object e, final int hash, final int shift) {
+			final int bit = 1 << ((hash >>> shift) & MASK);
+			final int index = Integer.bitCount(mBitmap & (bit - 1));
+			if((mBitmap & bit) == 0) {
+				final Object[] array = new Object[mArray.length + 1];
+				System.arraycopy(mArray, 0, array, 0, index);
+				array[index] = e;
+				System.arraycopy(mArray, index, array, index + 1, mArray.length - index);
+				return new BitmapNode(mBitmap | bit, array);
+			}
+			final Object existing = mArray[index];
+			final Object replacement;
+			if(existing instanceof Node) {
+				replacement = ((Node) existing).add(e, hash, shift + BITS);
+			}
+			else if(existing.equals(e)) {
+				return this;
+			}
+			else {
+				replacement = pair(existing, hash(existing), e, hash, shift + BITS);
+			}
+			return replacement == existing ? this : replace(index, replacement);
+		}
+
+		@Override
+		Node remove(final Object o, final int hash, final int shift) {
+			final int bit = 1 << ((hash >>> shift) & MASK);
+			if((mBitmap & bit) == 0) {
+				return this;
+			}
+			final int index = Integer.bitCount(mBitmap & (bit - 1));
+			final Object existing = mArray[index];
+			if(existing instanceof Node) {
+				final Node child = ((Node) existing).remove(o, hash, shift + BITS);
+				if(child == existing) {
+					return this;
+				}
+				if(child != null) {
+					final Object single = child.single();
+					return replace(index, single != null ? single : child);
+				}
+			}
+			else if(!existing.equals(o)) {
+				return this;
+			}
+			if(mArray.length == 1) {
+				return null;
+			}
+			final Object[] array = new Object[mArray.length - 1];
+			System.arraycopy(mArray, 0, array, 0, index);
+			System.arraycopy(mArray, index + 1, array, index, array.length - index);
+			return new BitmapNode(mBitmap & ~bit, array);
+		}
+
+		private Node replace(final int index, final Object entry) {
+			final Object[] array = mArray.clone();
+			array[index] = entry;
+			return new BitmapNode(mBitmap, array);
+		}
+
+		@Override
+		boolean contains(final Object o, final int hash, final int shift) {
+			final int bit = 1 << ((hash >>> shift) & MASK);
+			if((mBitmap & bit) == 0) {
+				return false;
+			}
+			final Object existing = mArray[Integer.bitCount(mBitmap & (bit - 1))];
+			if(existing instanceof Node) {
+				return ((Node) existing).contains(o, hash, shift + BITS);
+			}
+			return existing.equals(o);
+		}
+
+		@Override
+		Object single() {
+			return mArray.length == 1 && !(mArray[0] instanceof Node) ? mArray[0] : null;
+		}
+
+		@Override
+		Object[] entries() {
+			return mArray;
+		}
+	}
+
+	/**
+	 * Holds elements whose hashes are identical.
+	 */
+	private static final class CollisionNode extends Node {
+		private final int mHash;
+		private final Object[] mElements;
+
+		CollisionNode(final int hash, final Object[] elements) {
+			mHash = hash;
+			mElements = elements;
+		}
+
+		private int indexOf(final Object o) {
+			for(int i = 0; i < mElements.length; ++i) {
+				if(mElements[i].equals(o)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		Node add(final Object e, final int hash, final int shift) {
+			if(hash != mHash) {
+				return pair(this, mHash, e, hash, shift);
+			}
+			if(indexOf(e) >= 0) {
+				return this;
+			}
+			final Object[] elements = new Object[mElements.length + 1];
+			System.arraycopy(mElements, 0, elements, 0, mElements.length);
+			elements[mElements.length] = e;
+			return new CollisionNode(mHash, elements);
+		}
+
+		@Override
+		Node remove(final Object o, final int hash, final int shift) {
+			final int index = hash == mHash ? indexOf(o) : -1;
+			if(index < 0) {
+				return this;
+			}
+			if(mElements.length == 1) {
+				return null;
+			}
+			final Object[] elements = new Object[mElements.length - 1];
+			System.arraycopy(mElements, 0, elements, 0, index);
+			System.arraycopy(mElements, index + 1, elements, index, elements.length - index);
+			return new CollisionNode(mHash, elements);
+		}
+
+		@Override
+		boolean contains(final Object o, final int hash, final int shift) {
+			return hash == mHash && indexOf(o) >= 0;
+		}
+
+		@Override
+		Object single() {
+			return mElements.length == 1 ? mElements[0] : null;
+		}
+
+		@Override
+		Object[] entries() {
+			return mElements;
+		}
+	}
+
+	/**
+	 * Depth-first iterator over a snapshot. The depth of the trie is bounded
+	 * by the number of hash bits, plus one for collision nodes.
+	 */
+	private final class TrieIterator implements Iterator<E> {
+		private final Object[][] mStack = new Object[32 / BITS + 2][];
+		private final int[] mIndices = new int[32 / BITS + 2];
+		private int mDepth;
+		private Object mNext;
+		private Object mLast;
+
+		TrieIterator(final Node root) {
+			mStack[0] = root.entries();
+			advance();
+		}
+
+		private void advance() {
+			while(mDepth >= 0) {
+				final Object[] entries = mStack[mDepth];
+				if(mIndices[mDepth] == entries.length) {
+					--mDepth;
+					continue;
+				}
+				final Object entry = entries[mIndices[mDepth]++];
+				if(entry instanceof Node) {
+					++mDepth;
+					mStack[mDepth] = ((Node) entry).entries();
+					mIndices[mDepth] = 0;
+				}
+				else {
+					mNext = entry;
+					return;
+				}
+			}
+			mNext = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return mNext != null;
+		}
+
+		@Override
+		public E next() {
+			if(mNext == null) {
+				throw new NoSuchElementException();
+			}
+			mLast = mNext;
+			advance();
+			@SuppressWarnings("unchecked") // only elements of type E are added
+			final E e = (E) mLast;
+			return e;
+		}
+
+		@Override
+		public void remove() {
+			if(mLast == null) {
+				throw new IllegalStateException();
+			}
+			HashTrieSet.this.remove(mLast);
+			mLast = null;
+		}
+	}
+}
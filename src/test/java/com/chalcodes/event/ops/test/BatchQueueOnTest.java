@@ -0,0 +1,241 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.BatchReceiver;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.BatchQueueOn;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class BatchQueueOnTest {
+	private final ExecutorService mPool = Executors.newSingleThreadExecutor();
+
+	/** Collects tasks so the test decides when they run. */
+	private final List<Runnable> mTasks = new ArrayList<Runnable>();
+	private final Executor mManual = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			mTasks.add(command);
+		}
+	};
+
+	@After
+	public void tearDown() {
+		mPool.shutdownNow();
+	}
+
+	private static class BatchRecorder implements BatchReceiver<Integer> {
+		final List<List<Integer>> mBatches = new ArrayList<List<Integer>>();
+
+		@Override
+		public void onEvents(@Nonnull final List<? extends Integer> events) {
+			mBatches.add(new ArrayList<Integer>(events));
+		}
+
+		@Override
+		public void onEvent(final Integer event) {
+			mBatches.add(Collections.singletonList(event));
+		}
+	}
+
+	private void runTasks() {
+		while(!mTasks.isEmpty()) {
+			mTasks.remove(0).run();
+		}
+	}
+
+	@Test
+	public void batchesOfMaxSize() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 3, 0);
+		for(int i = 0; i < 8; ++i) {
+			op.onEvent(i);
+		}
+		final BatchRecorder recorder = new BatchRecorder();
+		op.register(recorder);
+		op.drain();
+		runTasks();
+		assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5), Arrays.asList(6, 7)),
+				recorder.mBatches);
+		assertEquals(0, op.getDepth());
+	}
+
+	@Test
+	public void onEventsQueuesSlice() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 10, 0);
+		final BatchRecorder recorder = new BatchRecorder();
+		op.register(recorder);
+		op.onEvents(new Integer[] { 0, 1, 2, 3, 4 }, 1, 3);
+		assertEquals(1, mTasks.size());
+		runTasks();
+		assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), recorder.mBatches);
+	}
+
+	@Test
+	public void nullEventRejectsWholeBatch() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 10, 0);
+		try {
+			op.onEvents(new Integer[] { 1, null, 3 }, 0, 3);
+			fail();
+		}
+		catch(NullPointerException expected) {
+			assertEquals(0, op.getDepth());
+			assertEquals(0, mTasks.size());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void onEventsChecksBounds() {
+		new BatchQueueOn<Integer>(mManual, 10, 0).onEvents(new Integer[] { 0, 1, 2 }, 2, 2);
+	}
+
+	@Test
+	public void plainReceiverGetsSingleEvents() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 3, 0);
+		final List<Integer> events = new ArrayList<Integer>();
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				events.add(event);
+			}
+		});
+		for(int i = 0; i < 5; ++i) {
+			op.onEvent(i);
+		}
+		runTasks();
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), events);
+	}
+
+	@Test
+	public void receiverThrowsMidBatch() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 10, 0);
+		final List<Integer> events = new ArrayList<Integer>();
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				if(event == 2) {
+					throw new IllegalStateException();
+				}
+				events.add(event);
+			}
+		});
+		for(int i = 1; i <= 5; ++i) {
+			op.onEvent(i);
+		}
+		try {
+			runTasks();
+			fail();
+		}
+		catch(IllegalStateException expected) {}
+		mTasks.clear();
+		assertEquals(Collections.singletonList(1), events);
+		/* The rest of the batch is kept, not lost. */
+		assertEquals(3, op.getDepth());
+		op.drain();
+		runTasks();
+		assertEquals(Arrays.asList(1, 3, 4, 5), events);
+		assertEquals(0, op.getDepth());
+	}
+
+	@Test
+	public void batchReceiverThrowingConsumesBatch() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 2, 0);
+		final BatchRecorder recorder = new BatchRecorder() {
+			@Override
+			public void onEvents(@Nonnull final List<? extends Integer> events) {
+				super.onEvents(events);
+				if(events.contains(1)) {
+					throw new IllegalStateException();
+				}
+			}
+		};
+		op.register(recorder);
+		for(int i = 0; i < 4; ++i) {
+			op.onEvent(i);
+		}
+		try {
+			runTasks();
+			fail();
+		}
+		catch(IllegalStateException expected) {}
+		mTasks.clear();
+		assertEquals(2, op.getDepth());
+		op.drain();
+		runTasks();
+		assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(2, 3)), recorder.mBatches);
+	}
+
+	@Test
+	public void removeEventsDiscardsUndelivered() {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mManual, 10, 0);
+		final List<Integer> events = new ArrayList<Integer>();
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				if(event == 0) {
+					throw new IllegalStateException();
+				}
+				events.add(event);
+			}
+		});
+		op.onEvent(0);
+		op.onEvent(1);
+		try {
+			runTasks();
+			fail();
+		}
+		catch(IllegalStateException expected) {}
+		mTasks.clear();
+		assertEquals(1, op.getDepth());
+		op.removeEvents();
+		assertEquals(0, op.getDepth());
+		op.drain();
+		runTasks();
+		assertEquals(Collections.<Integer>emptyList(), events);
+	}
+
+	@Test(timeout = 10000)
+	public void lingerFillsPartialBatch() throws Exception {
+		final BatchQueueOn<Integer> op = new BatchQueueOn<Integer>(mPool, 4, TimeUnit.SECONDS.toNanos(5));
+		final BatchRecorder recorder = new BatchRecorder();
+		op.register(recorder);
+		op.onEvent(0);
+		/* The drain task has taken the first event and is waiting for more. */
+		while(op.getDepth() > 0) {
+			Thread.sleep(1);
+		}
+		Thread.sleep(20);
+		op.onEvent(1);
+		op.onEvent(2);
+		op.onEvent(3);
+		mPool.submit(new Callable<Void>() {
+			@Override
+			public Void call() {
+				return null;
+			}
+		}).get();
+		assertEquals(Collections.singletonList(Arrays.asList(0, 1, 2, 3)), recorder.mBatches);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyBatches() {
+		new BatchQueueOn<Integer>(mManual, 0, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeLatency() {
+		new BatchQueueOn<Integer>(mManual, 1, -1);
+	}
+}
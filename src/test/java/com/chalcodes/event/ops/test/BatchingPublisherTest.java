@@ -0,0 +1,150 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.BatchOp;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.BatchingPublisher;
+import com.chalcodes.event.ops.QueueOn;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchingPublisherTest {
+	private static final Executor DIRECT = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			command.run();
+		}
+	};
+
+	private final List<Integer> mReceived = new ArrayList<Integer>();
+	private final Receiver<Integer> mRecorder = new Receiver<Integer>() {
+		@Override
+		public void onEvent(final Integer event) {
+			mReceived.add(event);
+		}
+	};
+
+	@Test
+	public void flushesWhenFull() {
+		final QueueOn<Integer> queueOn = new QueueOn<Integer>(DIRECT);
+		queueOn.register(mRecorder);
+		final BatchingPublisher<Integer> publisher = new BatchingPublisher<Integer>(queueOn, Integer.class, 3, 0);
+		for(int i = 0; i < 5; ++i) {
+			publisher.onEvent(i);
+		}
+		assertEquals(Arrays.asList(0, 1, 2), mReceived);
+		assertEquals(2, publisher.getBufferedCount());
+		publisher.flush();
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4), mReceived);
+		assertEquals(0, publisher.getBufferedCount());
+	}
+
+	@Test
+	public void flushesWhenOldestEventIsLate() throws InterruptedException {
+		final QueueOn<Integer> queueOn = new QueueOn<Integer>(DIRECT);
+		queueOn.register(mRecorder);
+		final BatchingPublisher<Integer> publisher = new BatchingPublisher<Integer>(queueOn, Integer.class, 100, TimeUnit.MILLISECONDS.toNanos(1));
+		publisher.onEvent(1);
+		Thread.sleep(5);
+		publisher.onEvent(2);
+		assertEquals(Arrays.asList(1, 2), mReceived);
+	}
+
+	/** A target that is not generic, so its bridge method casts to String[]. */
+	private static final class StringTarget implements BatchOp<String, String> {
+		final List<String> mReceived = new ArrayList<String>();
+
+		@Override
+		public void onEvents(final String[] events, final int off, final int len) {
+			mReceived.addAll(Arrays.asList(events).subList(off, off + len));
+		}
+
+		@Override
+		public void onEvent(final String event) {
+			mReceived.add(event);
+		}
+
+		@Override
+		public boolean register(final Receiver<? super String> receiver) {
+			return false;
+		}
+
+		@Override
+		public boolean unregister(final Receiver<? super String> receiver) {
+			return false;
+		}
+	}
+
+	@Test
+	public void concreteTarget() {
+		final StringTarget target = new StringTarget();
+		final BatchingPublisher<String> publisher = new BatchingPublisher<String>(target, String.class, 2, 0);
+		publisher.onEvent("a");
+		publisher.onEvent("b");
+		publisher.onEvent("c");
+		publisher.flush();
+		assertEquals(Arrays.asList("a", "b", "c"), target.mReceived);
+	}
+
+	@Test
+	public void nullEventIsRejectedBeforeBuffering() {
+		final QueueOn<Integer> queueOn = new QueueOn<Integer>(DIRECT);
+		queueOn.register(mRecorder);
+		final BatchingPublisher<Integer> publisher = new BatchingPublisher<Integer>(queueOn, Integer.class, 3, 0);
+		publisher.onEvent(1);
+		try {
+			publisher.onEvent(null);
+			fail();
+		}
+		catch(NullPointerException expected) {
+			assertEquals(1, publisher.getBufferedCount());
+		}
+		publisher.onEvent(2);
+		publisher.onEvent(3);
+		assertEquals(Arrays.asList(1, 2, 3), mReceived);
+	}
+
+	@Test
+	public void manyProducers() throws InterruptedException {
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final AtomicInteger count = new AtomicInteger();
+		final QueueOn<Integer> queueOn = new QueueOn<Integer>(executor);
+		queueOn.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				count.incrementAndGet();
+			}
+		});
+		final BatchingPublisher<Integer> publisher = new BatchingPublisher<Integer>(queueOn, Integer.class, 16, 0);
+		final Thread[] threads = new Thread[4];
+		for(int t = 0; t < threads.length; ++t) {
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					for(int i = 0; i < 1000; ++i) {
+						publisher.onEvent(i);
+					}
+					publisher.flush();
+				}
+			};
+			threads[t].start();
+		}
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(4000, count.get());
+	}
+}
@@ -0,0 +1,137 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.BoundedQueueOn;
+import com.chalcodes.event.ops.BoundedQueueOn.Overflow;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BoundedQueueOnTest {
+	private static final int CAPACITY = 4;
+
+	private final ExecutorService mPool = Executors.newSingleThreadExecutor();
+
+	/** Collects tasks so the test decides when they run. */
+	private final List<Runnable> mTasks = new ArrayList<Runnable>();
+	private final Executor mManual = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			mTasks.add(command);
+		}
+	};
+
+	@After
+	public void tearDown() {
+		mPool.shutdownNow();
+	}
+
+	private static class Recorder implements Receiver<Integer> {
+		final List<Integer> mEvents = new ArrayList<Integer>();
+
+		@Override
+		public void onEvent(final Integer event) {
+			mEvents.add(event);
+		}
+	}
+
+	/** Publishes events with no receiver registered, then delivers them. */
+	private List<Integer> overflow(final BoundedQueueOn<Integer> op, final int count) {
+		for(int i = 0; i < count; ++i) {
+			op.onEvent(i);
+		}
+		assertEquals(CAPACITY, op.getDepth());
+		final Recorder recorder = new Recorder();
+		op.register(recorder);
+		op.drain();
+		while(!mTasks.isEmpty()) {
+			mTasks.remove(0).run();
+		}
+		return recorder.mEvents;
+	}
+
+	@Test
+	public void dropNewest() {
+		final BoundedQueueOn<Integer> op = new BoundedQueueOn<Integer>(mManual, CAPACITY, Overflow.DROP_NEWEST);
+		assertEquals(Arrays.asList(0, 1, 2, 3), overflow(op, CAPACITY + 2));
+		assertEquals(2, op.getDropCount());
+	}
+
+	@Test
+	public void dropOldest() {
+		final BoundedQueueOn<Integer> op = new BoundedQueueOn<Integer>(mManual, CAPACITY, Overflow.DROP_OLDEST);
+		assertEquals(Arrays.asList(2, 3, 4, 5), overflow(op, CAPACITY + 2));
+		assertEquals(2, op.getDropCount());
+	}
+
+	@Test
+	public void throwWhenFull() {
+		final BoundedQueueOn<Integer> op = new BoundedQueueOn<Integer>(mManual, CAPACITY, Overflow.THROW);
+		for(int i = 0; i < CAPACITY; ++i) {
+			op.onEvent(i);
+		}
+		try {
+			op.onEvent(CAPACITY);
+			fail();
+		}
+		catch(IllegalStateException expected) {}
+		assertEquals(CAPACITY, op.getDepth());
+	}
+
+	@Test(timeout = 10000)
+	public void blockUntilDrained() throws Exception {
+		final BoundedQueueOn<Integer> op = new BoundedQueueOn<Integer>(mPool, CAPACITY, Overflow.BLOCK);
+		final CountDownLatch release = new CountDownLatch(1);
+		final Recorder recorder = new Recorder() {
+			@Override
+			public void onEvent(final Integer event) {
+				try {
+					release.await();
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				super.onEvent(event);
+			}
+		};
+		op.register(recorder);
+		final int count = CAPACITY + 3;
+		final Thread producer = new Thread() {
+			@Override
+			public void run() {
+				for(int i = 0; i < count; ++i) {
+					op.onEvent(i);
+				}
+			}
+		};
+		producer.start();
+		/* The receiver holds one event; the queue fills and the producer waits. */
+		while(op.getDepth() < CAPACITY) {
+			Thread.sleep(1);
+		}
+		producer.join(100);
+		assertTrue(producer.isAlive());
+		release.countDown();
+		producer.join();
+		mPool.submit(new Callable<Void>() {
+			@Override
+			public Void call() {
+				return null;
+			}
+		}).get();
+		assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6), recorder.mEvents);
+		assertEquals(0, op.getDropCount());
+	}
+}
@@ -0,0 +1,159 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.ConflateOn;
+import com.chalcodes.event.ops.KeyExtractor;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConflateOnTest {
+	private static final int PRODUCERS = 4;
+	private static final int KEYS = 8;
+	private static final int EVENTS_PER_PRODUCER = 80000;
+
+	private final ExecutorService mExecutor = Executors.newSingleThreadExecutor();
+
+	@After
+	public void tearDown() {
+		mExecutor.shutdownNow();
+	}
+
+	private static class Event {
+		final int mKey;
+		final int mProducer;
+		final int mSeq;
+
+		Event(final int key, final int producer, final int seq) {
+			mKey = key;
+			mProducer = producer;
+			mSeq = seq;
+		}
+
+		@Override
+		public String toString() {
+			return mKey + "/" + mProducer + "/" + mSeq;
+		}
+	}
+
+	private static final KeyExtractor<Event, Integer> KEY = new KeyExtractor<Event, Integer>() {
+		@Nonnull
+		@Override
+		public Integer getKey(@Nonnull final Event event) {
+			return event.mKey;
+		}
+	};
+
+	/** Only called in the single executor thread. */
+	private static class Recorder implements Receiver<Event> {
+		final List<Event> mEvents = new ArrayList<Event>();
+
+		@Override
+		public void onEvent(final Event event) {
+			mEvents.add(event);
+		}
+	}
+
+	/** Waits until every task submitted so far, including drain tasks, has run. */
+	private void quiesce() throws Exception {
+		mExecutor.submit(new Callable<Void>() {
+			@Override
+			public Void call() {
+				return null;
+			}
+		}).get();
+	}
+
+	@Test(timeout = 10000)
+	public void replacesPendingEventInPlace() throws Exception {
+		final ConflateOn<Event> op = new ConflateOn<Event>(mExecutor, KEY);
+		final Recorder recorder = new Recorder();
+		final Event a1 = new Event(0, 0, 1);
+		final Event b1 = new Event(1, 0, 1);
+		final Event a2 = new Event(0, 0, 2);
+		op.onEvent(a1);
+		op.onEvent(b1);
+		op.onEvent(a2);
+		assertEquals(2, op.getDepth());
+		op.register(recorder);
+		op.drain();
+		quiesce();
+		assertEquals(Arrays.asList(a2, b1), recorder.mEvents);
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentProducersOnSameKeys() throws Exception {
+		final ConflateOn<Event> op = new ConflateOn<Event>(mExecutor, KEY);
+		final Recorder recorder = new Recorder();
+		op.register(recorder);
+		final List<Thread> threads = new ArrayList<Thread>();
+		for(int p = 0; p < PRODUCERS; ++p) {
+			final int producer = p;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for(int seq = 0; seq < EVENTS_PER_PRODUCER; ++seq) {
+						op.onEvent(new Event(seq % KEYS, producer, seq));
+					}
+				}
+			});
+		}
+		for(final Thread thread : threads) {
+			thread.start();
+		}
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		quiesce();
+		assertEquals(0, op.getDepth());
+
+		final Map<Event, Boolean> seen = new IdentityHashMap<Event, Boolean>();
+		final int[][] lastSeq = new int[KEYS][PRODUCERS];
+		for(final int[] row : lastSeq) {
+			Arrays.fill(row, -1);
+		}
+		final Event[] lastEvent = new Event[KEYS];
+		for(final Event event : recorder.mEvents) {
+			assertNull("delivered twice: " + event, seen.put(event, Boolean.TRUE));
+			/* Conflation drops events but never reorders one producer's events. */
+			assertTrue("out of order: " + event, event.mSeq > lastSeq[event.mKey][event.mProducer]);
+			lastSeq[event.mKey][event.mProducer] = event.mSeq;
+			lastEvent[event.mKey] = event;
+		}
+		for(int key = 0; key < KEYS; ++key) {
+			/* Each producer's later event on a key is delivered after its
+			 * earlier ones, so the last event delivered for each key must be
+			 * the last event some producer published for that key. */
+			assertEquals(String.valueOf(lastEvent[key]),
+					EVENTS_PER_PRODUCER - KEYS + key, lastEvent[key].mSeq);
+		}
+
+		/* Once published, the latest event for each key is delivered exactly once. */
+		recorder.mEvents.clear();
+		final List<Event> latest = new ArrayList<Event>();
+		for(int key = 0; key < KEYS; ++key) {
+			op.onEvent(new Event(key, PRODUCERS, 0));
+			final Event event = new Event(key, PRODUCERS, 1);
+			op.onEvent(event);
+			latest.add(event);
+		}
+		quiesce();
+		for(final Event event : latest) {
+			assertEquals(event.toString(), 1, Collections.frequency(recorder.mEvents, event));
+		}
+	}
+}
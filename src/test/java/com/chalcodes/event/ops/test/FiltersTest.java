@@ -0,0 +1,127 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Filters;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FiltersTest {
+	private static class Multiple implements Filter<Integer> {
+		final int mDivisor;
+		final AtomicInteger mCalls = new AtomicInteger();
+
+		Multiple(final int divisor) {
+			mDivisor = divisor;
+		}
+
+		@Override
+		public boolean matches(@Nonnull final Integer event) {
+			mCalls.incrementAndGet();
+			return event % mDivisor == 0;
+		}
+	}
+
+	@Test
+	public void any() {
+		final Multiple two = new Multiple(2);
+		final Multiple three = new Multiple(3);
+		final Filter<Integer> filter = Filters.any(two, three);
+		assertTrue(filter.matches(2));
+		assertTrue(filter.matches(3));
+		assertTrue(filter.matches(6));
+		assertFalse(filter.matches(5));
+		assertEquals(4, two.mCalls.get());
+		/* Not tested for 2 or 6, which already matched. */
+		assertEquals(2, three.mCalls.get());
+	}
+
+	@Test
+	public void anyOfMore() {
+		final Filter<Integer> filter = Filters.any(new Multiple(2), new Multiple(3), new Multiple(5));
+		assertTrue(filter.matches(25));
+		assertFalse(filter.matches(7));
+	}
+
+	@Test
+	public void adaptiveCombine() {
+		final Filter<Integer> filter = Filters.adaptiveCombine(new Multiple(2), new Multiple(3), new Multiple(5));
+		for(int i = 1; i <= 100000; ++i) {
+			assertEquals(String.valueOf(i), i % 30 == 0, filter.matches(i));
+		}
+	}
+
+	@Test
+	public void adaptiveAny() {
+		final Filter<Integer> filter = Filters.adaptiveAny(new Multiple(2), new Multiple(3), new Multiple(5));
+		for(int i = 1; i <= 100000; ++i) {
+			assertEquals(String.valueOf(i), i % 2 == 0 || i % 3 == 0 || i % 5 == 0, filter.matches(i));
+		}
+	}
+
+	@Test
+	public void adaptiveCombineTestsRejectingFilterFirst() {
+		final Multiple always = new Multiple(1);
+		final Multiple rarely = new Multiple(1000);
+		final Filter<Integer> filter = Filters.adaptiveCombine(always, rarely);
+		for(int i = 1; i <= 100000; ++i) {
+			filter.matches(i);
+		}
+		always.mCalls.set(0);
+		for(int i = 1; i <= 6400; ++i) {
+			assertEquals(i % 1000 == 0, filter.matches(i));
+		}
+		/* Only sampled events and events that pass the first filter. */
+		assertTrue(String.valueOf(always.mCalls.get()), always.mCalls.get() <= 100 + 6);
+	}
+
+	@Test
+	public void adaptiveAnyTestsPassingFilterFirst() {
+		final Multiple rarely = new Multiple(1000);
+		final Multiple always = new Multiple(1);
+		final Filter<Integer> filter = Filters.adaptiveAny(rarely, always);
+		for(int i = 1; i <= 100000; ++i) {
+			filter.matches(i);
+		}
+		rarely.mCalls.set(0);
+		for(int i = 1; i <= 6400; ++i) {
+			assertTrue(filter.matches(i));
+		}
+		assertTrue(String.valueOf(rarely.mCalls.get()), rarely.mCalls.get() <= 100);
+	}
+
+	@Test(timeout = 10000)
+	public void adaptiveConcurrent() throws InterruptedException {
+		final Filter<Integer> filter = Filters.adaptiveCombine(new Multiple(2), new Multiple(3), new Multiple(5));
+		final AtomicReference<String> failure = new AtomicReference<String>();
+		final List<Thread> threads = new ArrayList<Thread>();
+		for(int t = 0; t < 4; ++t) {
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for(int i = 1; i <= 200000; ++i) {
+						if(filter.matches(i) != (i % 30 == 0)) {
+							failure.compareAndSet(null, String.valueOf(i));
+						}
+					}
+				}
+			});
+		}
+		for(final Thread thread : threads) {
+			thread.start();
+		}
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		assertNull(failure.get());
+	}
+}
@@ -0,0 +1,113 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.Condition;
+import com.chalcodes.event.ops.IndexedEventBus;
+import com.chalcodes.event.ops.KeyExtractor;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedEventBusTest {
+	private static class Quote {
+		final String mSymbol;
+		final int mPrice;
+
+		Quote(final String symbol, final int price) {
+			mSymbol = symbol;
+			mPrice = price;
+		}
+
+		@Override
+		public String toString() {
+			return mSymbol + mPrice;
+		}
+	}
+
+	private static final KeyExtractor<Quote, String> SYMBOL = new KeyExtractor<Quote, String>() {
+		@Override
+		public String getKey(final Quote event) {
+			return event.mSymbol;
+		}
+	};
+
+	private static final KeyExtractor<Quote, Integer> PRICE = new KeyExtractor<Quote, Integer>() {
+		@Override
+		public Integer getKey(final Quote event) {
+			return event.mPrice;
+		}
+	};
+
+	private static class Recorder implements Receiver<Quote> {
+		final List<String> mEvents = new ArrayList<String>();
+
+		@Override
+		public void onEvent(final Quote event) {
+			mEvents.add(event.toString());
+		}
+	}
+
+	private final IndexedEventBus<Quote> mBus = new IndexedEventBus<Quote>();
+
+	private void publish(final Object... symbolsAndPrices) {
+		for(int i = 0; i < symbolsAndPrices.length; i += 2) {
+			mBus.onEvent(new Quote((String) symbolsAndPrices[i], (Integer) symbolsAndPrices[i + 1]));
+		}
+	}
+
+	@Test
+	public void equality() {
+		final Recorder recorder = new Recorder();
+		mBus.register(recorder, Collections.singletonList(Condition.equalTo(SYMBOL, "X")));
+		publish("X", 1, "Y", 2, "X", 3);
+		assertEquals(Arrays.asList("X1", "X3"), recorder.mEvents);
+	}
+
+	@Test
+	public void membership() {
+		final Recorder recorder = new Recorder();
+		mBus.register(recorder, Collections.singletonList(Condition.in(SYMBOL, Arrays.asList("X", "Z"))));
+		publish("X", 1, "Y", 2, "Z", 3);
+		assertEquals(Arrays.asList("X1", "Z3"), recorder.mEvents);
+	}
+
+	@Test
+	public void ranges() {
+		final Recorder low = new Recorder();
+		final Recorder mid = new Recorder();
+		final Recorder high = new Recorder();
+		mBus.register(low, Collections.singletonList(Condition.atMost(PRICE, 10)));
+		mBus.register(mid, Collections.singletonList(Condition.between(PRICE, 5, 15)));
+		mBus.register(high, Collections.singletonList(Condition.atLeast(PRICE, 12)));
+		publish("X", 1, "X", 7, "X", 12, "X", 20);
+		assertEquals(Arrays.asList("X1", "X7"), low.mEvents);
+		assertEquals(Arrays.asList("X7", "X12"), mid.mEvents);
+		assertEquals(Arrays.asList("X12", "X20"), high.mEvents);
+	}
+
+	@Test
+	public void conjunction() {
+		final Recorder recorder = new Recorder();
+		mBus.register(recorder, Arrays.asList(Condition.atLeast(PRICE, 10), Condition.equalTo(SYMBOL, "X")));
+		publish("X", 1, "Y", 20, "X", 20);
+		assertEquals(Collections.singletonList("X20"), recorder.mEvents);
+	}
+
+	@Test
+	public void unconditionalAndUnregister() {
+		final Recorder recorder = new Recorder();
+		mBus.register(recorder);
+		mBus.register(recorder, Collections.singletonList(Condition.equalTo(SYMBOL, "X")));
+		publish("X", 1);
+		assertEquals(Arrays.asList("X1", "X1"), recorder.mEvents);
+		assertTrue(mBus.unregister(recorder));
+		publish("X", 2);
+		assertEquals(2, recorder.mEvents.size());
+	}
+}
@@ -0,0 +1,140 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.KeyExtractor;
+import com.chalcodes.event.ops.PartitionedQueueOn;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PartitionedQueueOnTest {
+	private static final int KEYS = 64;
+
+	private final ExecutorService mPool = Executors.newFixedThreadPool(4);
+
+	/** Collects tasks so the test decides when they run. */
+	private final List<Runnable> mTasks = new ArrayList<Runnable>();
+	private final Executor mManual = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			mTasks.add(command);
+		}
+	};
+
+	/** Events are encoded as key + KEYS * sequence number. */
+	private static final KeyExtractor<Integer, Integer> KEY = new KeyExtractor<Integer, Integer>() {
+		@Nonnull
+		@Override
+		public Integer getKey(@Nonnull final Integer event) {
+			return event % KEYS;
+		}
+	};
+
+	@After
+	public void tearDown() {
+		mPool.shutdownNow();
+	}
+
+	@Test
+	public void sameKeySameLane() {
+		final PartitionedQueueOn<Integer> op = new PartitionedQueueOn<Integer>(mManual, 4, KEY);
+		assertEquals(4, op.getLaneCount());
+		for(int i = 0; i < 10; ++i) {
+			op.onEvent(5 + KEYS * i);
+		}
+		int nonEmpty = 0;
+		for(int lane = 0; lane < op.getLaneCount(); ++lane) {
+			if(op.getDepth(lane) > 0) {
+				assertEquals(10, op.getDepth(lane));
+				++nonEmpty;
+			}
+		}
+		assertEquals(1, nonEmpty);
+	}
+
+	@Test
+	public void lanesDrainIndependently() {
+		final PartitionedQueueOn<Integer> op = new PartitionedQueueOn<Integer>(mManual, 4, KEY);
+		final List<Integer> events = new ArrayList<Integer>();
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				events.add(event);
+			}
+		});
+		for(int i = 0; i < KEYS; ++i) {
+			op.onEvent(i);
+		}
+		/* One drain task per lane that received events. */
+		assertTrue(mTasks.size() > 1);
+		assertTrue(mTasks.size() <= op.getLaneCount());
+		for(final Runnable task : mTasks) {
+			task.run();
+		}
+		assertEquals(KEYS, events.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNoLanes() {
+		new PartitionedQueueOn<Integer>(mManual, 0, KEY);
+	}
+
+	@Test(timeout = 10000)
+	public void preservesPerKeyOrder() throws InterruptedException {
+		final int producers = 4;
+		final int perKey = 2000;
+		final PartitionedQueueOn<Integer> op = new PartitionedQueueOn<Integer>(mPool, 4, KEY);
+		final AtomicIntegerArray next = new AtomicIntegerArray(KEYS);
+		final Queue<Integer> errors = new ConcurrentLinkedQueue<Integer>();
+		final CountDownLatch done = new CountDownLatch(KEYS * perKey);
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				final int key = event % KEYS;
+				if(event / KEYS != next.getAndIncrement(key)) {
+					errors.add(event);
+				}
+				done.countDown();
+			}
+		});
+		final List<Thread> threads = new ArrayList<Thread>();
+		for(int p = 0; p < producers; ++p) {
+			final int producer = p;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					/* Each key belongs to one producer, which publishes it in order. */
+					for(int seq = 0; seq < perKey; ++seq) {
+						for(int key = producer; key < KEYS; key += producers) {
+							op.onEvent(key + KEYS * seq);
+						}
+					}
+				}
+			});
+		}
+		for(final Thread thread : threads) {
+			thread.start();
+		}
+		done.await();
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(new ArrayList<Integer>(), new ArrayList<Integer>(errors));
+		for(int key = 0; key < KEYS; ++key) {
+			assertEquals(perKey, next.get(key));
+		}
+	}
+}
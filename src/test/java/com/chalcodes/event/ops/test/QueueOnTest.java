@@ -0,0 +1,169 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.QueueOn;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class QueueOnTest {
+	private final ExecutorService mPool = Executors.newFixedThreadPool(2);
+
+	/** Collects tasks so the test decides when they run. */
+	private final List<Runnable> mTasks = new ArrayList<Runnable>();
+	private final Executor mManual = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			mTasks.add(command);
+		}
+	};
+
+	@After
+	public void tearDown() {
+		mPool.shutdownNow();
+	}
+
+	private static class Recorder implements Receiver<Integer> {
+		final List<Integer> mEvents = new ArrayList<Integer>();
+
+		@Override
+		public void onEvent(final Integer event) {
+			mEvents.add(event);
+		}
+	}
+
+	private static List<Integer> range(final int count) {
+		final List<Integer> list = new ArrayList<Integer>(count);
+		for(int i = 0; i < count; ++i) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	@Test
+	public void eventBudgetResubmits() {
+		final QueueOn<Integer> op = new QueueOn<Integer>(mManual, 3, 0);
+		final Recorder recorder = new Recorder();
+		op.register(recorder);
+		for(int i = 0; i < 10; ++i) {
+			op.onEvent(i);
+		}
+		assertEquals(1, mTasks.size());
+		int runs = 0;
+		while(!mTasks.isEmpty()) {
+			mTasks.remove(0).run();
+			++runs;
+			/* Each run yields after three events and leaves exactly one task pending. */
+			assertEquals(Math.min(3 * runs, 10), recorder.mEvents.size());
+			assertTrue(mTasks.size() <= 1);
+		}
+		assertEquals(4, runs);
+		assertEquals(range(10), recorder.mEvents);
+	}
+
+	@Test
+	public void eventsDuringResubmitAreDelivered() {
+		final QueueOn<Integer> op = new QueueOn<Integer>(mManual, 2, 0);
+		final Recorder recorder = new Recorder();
+		op.register(recorder);
+		op.onEvent(0);
+		op.onEvent(1);
+		op.onEvent(2);
+		mTasks.remove(0).run();
+		assertEquals(1, mTasks.size());
+		/* A task is pending, so these do not submit another. */
+		op.onEvent(3);
+		op.onEvent(4);
+		assertEquals(1, mTasks.size());
+		while(!mTasks.isEmpty()) {
+			mTasks.remove(0).run();
+		}
+		assertEquals(range(5), recorder.mEvents);
+	}
+
+	@Test
+	public void timeBudgetResubmits() {
+		final QueueOn<Integer> op = new QueueOn<Integer>(mManual, Integer.MAX_VALUE, 1);
+		final Recorder recorder = new Recorder();
+		op.register(recorder);
+		for(int i = 0; i < 200; ++i) {
+			op.onEvent(i);
+		}
+		int runs = 0;
+		while(!mTasks.isEmpty()) {
+			final int before = recorder.mEvents.size();
+			mTasks.remove(0).run();
+			++runs;
+			/* The time budget is checked every 64 events. */
+			assertTrue(recorder.mEvents.size() - before <= 64);
+		}
+		assertTrue(runs >= 4);
+		assertEquals(range(200), recorder.mEvents);
+	}
+
+	@Test
+	public void nullEventRejectsWholeBatch() {
+		final QueueOn<Integer> op = new QueueOn<Integer>(mManual);
+		try {
+			op.onEvents(new Integer[] { 1, null, 3 }, 0, 3);
+			fail();
+		}
+		catch(NullPointerException expected) {
+			assertEquals(0, op.getDepth());
+			assertEquals(0, mTasks.size());
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void budgetLosesNothingUnderContention() throws InterruptedException {
+		final int producers = 4;
+		final int perProducer = 20000;
+		final CountDownLatch done = new CountDownLatch(producers * perProducer);
+		final int[] next = new int[producers];
+		final List<String> errors = new ArrayList<String>();
+		final QueueOn<Integer> op = new QueueOn<Integer>(mPool, 7, 0);
+		/* Drain tasks never run concurrently, so the receiver needs no locking. */
+		op.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				final int producer = event / perProducer;
+				final int seq = event % perProducer;
+				if(seq != next[producer]++) {
+					errors.add(String.valueOf(event));
+				}
+				done.countDown();
+			}
+		});
+		final List<Thread> threads = new ArrayList<Thread>();
+		for(int p = 0; p < producers; ++p) {
+			final int base = p * perProducer;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					for(int i = 0; i < perProducer; ++i) {
+						op.onEvent(base + i);
+					}
+				}
+			});
+		}
+		for(final Thread thread : threads) {
+			thread.start();
+		}
+		done.await();
+		for(final Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(0, op.getDepth());
+		assertEquals(new ArrayList<String>(), errors);
+	}
+}
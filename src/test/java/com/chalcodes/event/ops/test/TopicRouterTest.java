@@ -0,0 +1,143 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.ExceptionHandlers;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.KeyExtractor;
+import com.chalcodes.event.ops.TopicRouter;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TopicRouterTest {
+	/** Events are strings whose key is the first character. */
+	private static final KeyExtractor<String, Character> FIRST = new KeyExtractor<String, Character>() {
+		@Nonnull
+		@Override
+		public Character getKey(@Nonnull final String event) {
+			return event.charAt(0);
+		}
+	};
+
+	private final TopicRouter<Character, String> mRouter = new TopicRouter<Character, String>(FIRST);
+
+	private static class Recorder implements Receiver<String> {
+		final List<String> mEvents = new ArrayList<String>();
+
+		@Override
+		public void onEvent(final String event) {
+			mEvents.add(event);
+		}
+	}
+
+	@Test
+	public void routesByKey() {
+		final Recorder a = new Recorder();
+		final Recorder b = new Recorder();
+		final Recorder all = new Recorder();
+		mRouter.register('a', a);
+		mRouter.register('b', b);
+		mRouter.register(all);
+		mRouter.onEvent("a1");
+		mRouter.onEvent("b1");
+		mRouter.onEvent("c1");
+		assertEquals(Collections.singletonList("a1"), a.mEvents);
+		assertEquals(Collections.singletonList("b1"), b.mEvents);
+		assertEquals(Arrays.asList("a1", "b1", "c1"), all.mEvents);
+	}
+
+	@Test
+	public void removesEmptyTopics() {
+		final Recorder first = new Recorder();
+		final Recorder second = new Recorder();
+		assertTrue(mRouter.register('a', first));
+		assertTrue(mRouter.register('a', second));
+		assertEquals(1, mRouter.getTopicCount());
+		assertTrue(mRouter.unregister('a', first));
+		assertFalse(mRouter.unregister('a', first));
+		assertEquals(1, mRouter.getTopicCount());
+		assertTrue(mRouter.unregister('a', second));
+		assertEquals(0, mRouter.getTopicCount());
+		assertFalse(mRouter.unregister('a', second));
+		/* A new topic is created for the same key. */
+		assertTrue(mRouter.register('a', first));
+		mRouter.onEvent("a1");
+		assertEquals(Collections.singletonList("a1"), first.mEvents);
+	}
+
+	@Test
+	public void exceptionHandlerCanUnregisterFromTopic() {
+		final TopicRouter<Character, String> router =
+				new TopicRouter<Character, String>(FIRST, ExceptionHandlers.<String>unregister());
+		final AtomicInteger calls = new AtomicInteger();
+		router.register('a', new Receiver<String>() {
+			@Override
+			public void onEvent(final String event) {
+				calls.incrementAndGet();
+				throw new IllegalStateException();
+			}
+		});
+		router.onEvent("a1");
+		router.onEvent("a2");
+		assertEquals(1, calls.get());
+		assertEquals(0, router.getTopicCount());
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentRegistrationOnOneKey() throws InterruptedException {
+		final int threads = 4;
+		final int rounds = 2000;
+		final AtomicInteger lost = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> workers = new ArrayList<Thread>();
+		for(int t = 0; t < threads; ++t) {
+			workers.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					}
+					catch(InterruptedException e) {
+						return;
+					}
+					for(int i = 0; i < rounds; ++i) {
+						/* Registering races with other threads removing the topic. */
+						final AtomicInteger received = new AtomicInteger();
+						final Receiver<String> receiver = new Receiver<String>() {
+							@Override
+							public void onEvent(final String event) {
+								received.incrementAndGet();
+							}
+						};
+						mRouter.register('k', receiver);
+						mRouter.onEvent("k");
+						if(received.get() == 0) {
+							lost.incrementAndGet();
+						}
+						if(!mRouter.unregister('k', receiver)) {
+							lost.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		for(final Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(0, lost.get());
+		assertEquals(0, mRouter.getTopicCount());
+	}
+}
@@ -0,0 +1,101 @@
+package com.chalcodes.event.ops.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.ops.KeyExtractor;
+import com.chalcodes.event.ops.TrieRouter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TrieRouterTest {
+	private final TrieRouter<String> mRouter = new TrieRouter<String>(new KeyExtractor<String, String>() {
+		@Override
+		public String getKey(final String event) {
+			return event;
+		}
+	});
+
+	private static class Recorder implements Receiver<String> {
+		final List<String> mEvents = new ArrayList<String>();
+
+		@Override
+		public void onEvent(final String event) {
+			mEvents.add(event);
+		}
+	}
+
+	private List<String> publish(final Recorder recorder, final String... topics) {
+		for(final String topic : topics) {
+			mRouter.onEvent(topic);
+		}
+		return recorder.mEvents;
+	}
+
+	@Test
+	public void exact() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("orders/eu/fills", recorder);
+		assertEquals(Collections.singletonList("orders/eu/fills"),
+				publish(recorder, "orders/eu/fills", "orders/us/fills", "orders/eu"));
+	}
+
+	@Test
+	public void singleLevel() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("orders/+/fills", recorder);
+		assertEquals(Arrays.asList("orders/eu/fills", "orders/us/fills"),
+				publish(recorder, "orders/eu/fills", "orders/us/fills", "orders/eu/x/fills", "orders/fills"));
+	}
+
+	@Test
+	public void multiLevel() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("md/#", recorder);
+		assertEquals(Arrays.asList("md", "md/eu", "md/eu/xyz"),
+				publish(recorder, "md", "md/eu", "md/eu/xyz", "orders/md"));
+	}
+
+	@Test
+	public void overlappingFiltersDeliverOnce() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("md/#", recorder);
+		mRouter.register("md/+", recorder);
+		assertEquals(Collections.singletonList("md/eu"), publish(recorder, "md/eu"));
+	}
+
+	@Test
+	public void unregisterInvalidatesCache() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("a/+", recorder);
+		publish(recorder, "a/b");
+		assertTrue(mRouter.unregister("a/+", recorder));
+		assertFalse(mRouter.unregister("a/+", recorder));
+		assertEquals(Collections.singletonList("a/b"), publish(recorder, "a/b"));
+	}
+
+	@Test
+	public void unregisterEverywhere() {
+		final Recorder recorder = new Recorder();
+		mRouter.register("a/+", recorder);
+		mRouter.register(recorder);
+		assertTrue(mRouter.unregister(recorder));
+		assertTrue(publish(recorder, "a/b", "c").isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void multiLevelMustBeLast() {
+		mRouter.register("a/#/b", new Recorder());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void wildcardMustBeWholeSegment() {
+		mRouter.register("a/b+", new Recorder());
+	}
+}
@@ -0,0 +1,154 @@
+package com.chalcodes.event.primitive.test;
+
+import com.chalcodes.event.primitive.DoubleBatchFilter;
+import com.chalcodes.event.primitive.LongBatchFilter;
+import com.chalcodes.event.primitive.LongFilter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BatchFilterTest {
+	private static final int SIZE = 1000;
+
+	/** Selects the elements of a slice that satisfy a plain comparison. */
+	private static long[] expected(final long[] in, final int off, final int len, final Comparison comparison) {
+		final long[] out = new long[len];
+		int n = 0;
+		for(int i = off; i < off + len; ++i) {
+			if(comparison.test(in[i])) {
+				out[n++] = in[i];
+			}
+		}
+		return Arrays.copyOf(out, n);
+	}
+
+	/** An oracle written independently of the filters under test. */
+	private interface Comparison {
+		boolean test(long e);
+	}
+
+	@Test
+	public void longComparisonsMatchScalar() {
+		final Random random = new Random(42);
+		final long[] in = new long[SIZE];
+		for(int i = 0; i < SIZE; ++i) {
+			in[i] = random.nextInt(21) - 10;
+		}
+		in[0] = Long.MIN_VALUE;
+		in[1] = Long.MAX_VALUE;
+		final LongBatchFilter[] filters = {
+				LongBatchFilter.greaterThan(3), LongBatchFilter.atLeast(3),
+				LongBatchFilter.lessThan(3), LongBatchFilter.atMost(3),
+				LongBatchFilter.equalTo(3), LongBatchFilter.notEqualTo(3)
+		};
+		final Comparison[] oracles = {
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e > 3;
+					}
+				},
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e >= 3;
+					}
+				},
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e < 3;
+					}
+				},
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e <= 3;
+					}
+				},
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e == 3;
+					}
+				},
+				new Comparison() {
+					@Override
+					public boolean test(final long e) {
+						return e != 3;
+					}
+				}
+		};
+		for(int f = 0; f < filters.length; ++f) {
+			final long[] out = new long[SIZE + 3];
+			final int n = filters[f].filter(in, 0, SIZE, out, 3);
+			assertArrayEquals(expected(in, 0, SIZE, oracles[f]), Arrays.copyOfRange(out, 3, 3 + n));
+		}
+	}
+
+	@Test
+	public void longBetween() {
+		final long[] in = { Long.MAX_VALUE, -6, 6, -5, -2, 0, 5, Long.MIN_VALUE, -3 };
+		final long[] out = new long[in.length];
+		int n = LongBatchFilter.between(-2, 5).filter(in, 0, in.length, out, 0);
+		assertArrayEquals(new long[] { -2, 0, 5 }, Arrays.copyOf(out, n));
+		n = LongBatchFilter.between(Long.MIN_VALUE, -5).filter(in, 0, in.length, out, 0);
+		assertArrayEquals(new long[] { -6, -5, Long.MIN_VALUE }, Arrays.copyOf(out, n));
+		n = LongBatchFilter.between(Long.MIN_VALUE, Long.MAX_VALUE).filter(in, 0, in.length, out, 0);
+		assertArrayEquals(in, Arrays.copyOf(out, n));
+		n = LongBatchFilter.between(6, Long.MAX_VALUE).filter(in, 0, in.length, out, 0);
+		assertArrayEquals(new long[] { Long.MAX_VALUE, 6 }, Arrays.copyOf(out, n));
+		final LongBatchFilter wide = LongBatchFilter.between(Long.MIN_VALUE + 1, Long.MAX_VALUE - 1);
+		assertFalse(wide.matches(Long.MIN_VALUE));
+		assertTrue(wide.matches(Long.MIN_VALUE + 1));
+		assertTrue(wide.matches(0));
+		assertTrue(wide.matches(Long.MAX_VALUE - 1));
+		assertFalse(wide.matches(Long.MAX_VALUE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void longBetweenRejectsEmptyRange() {
+		LongBatchFilter.between(5, -2);
+	}
+
+	@Test
+	public void longInPlace() {
+		final long[] in = { 1, 2, 3, 4, 5, 6, 7, 8 };
+		final int n = LongBatchFilter.between(3, 6).filter(in, 1, 7, in, 0);
+		assertArrayEquals(new long[] { 3, 4, 5, 6 }, Arrays.copyOf(in, n));
+	}
+
+	@Test
+	public void genericFallback() {
+		final long[] in = { 1, 2, 3, 4, 5, 6 };
+		final long[] out = new long[6];
+		final int n = LongBatchFilter.filter(new LongFilter() {
+			@Override
+			public boolean matches(final long event) {
+				return (event & 1) == 1;
+			}
+		}, in, 0, 6, out, 0);
+		assertArrayEquals(new long[] { 1, 3, 5 }, Arrays.copyOf(out, n));
+	}
+
+	@Test
+	public void doubleNaN() {
+		final double[] in = { 1.0, Double.NaN, 2.0, 3.0 };
+		final double[] out = new double[4];
+		assertEquals(2, DoubleBatchFilter.between(1.0, 2.0).filter(in, 0, 4, out, 0));
+		assertArrayEquals(new double[] { 1.0, 2.0 }, Arrays.copyOf(out, 2), 0.0);
+		assertEquals(0, DoubleBatchFilter.equalTo(Double.NaN).filter(in, 0, 4, out, 0));
+		assertEquals(4, DoubleBatchFilter.notEqualTo(Double.NaN).filter(in, 0, 4, out, 0));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void outputTooSmall() {
+		LongBatchFilter.atLeast(0).filter(new long[4], 0, 4, new long[3], 0);
+	}
+}
@@ -0,0 +1,66 @@
+package com.chalcodes.event.primitive.test;
+
+import com.chalcodes.event.primitive.DoubleEventBus;
+import com.chalcodes.event.primitive.DoubleFilter;
+import com.chalcodes.event.primitive.DoubleOp;
+import com.chalcodes.event.primitive.DoubleReceiver;
+import com.chalcodes.event.primitive.DoubleStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleStreamTest {
+	private static final DoubleFilter POSITIVE = new DoubleFilter() {
+		@Override
+		public boolean matches(final double event) {
+			return event > 0;
+		}
+	};
+
+	private final List<Double> mReceived = new ArrayList<Double>();
+	private final DoubleReceiver mRecorder = new DoubleReceiver() {
+		@Override
+		public void onEvent(final double event) {
+			mReceived.add(event);
+		}
+	};
+
+	@Test
+	public void opChain() {
+		final DoubleOp op = DoubleStream.ignore(1).pass(POSITIVE).changed().end();
+		op.register(mRecorder);
+		for(final double event : new double[] { 9.0, 0.5, 0.5, -1.0, 2.5, 2.5, 0.5 }) {
+			op.onEvent(event);
+		}
+		assertEquals(Arrays.asList(0.5, 2.5, 0.5), mReceived);
+	}
+
+	@Test
+	public void chainEndingInReceiver() {
+		final DoubleReceiver head = DoubleStream.block(POSITIVE).changed().end(mRecorder);
+		for(final double event : new double[] { -1.0, -1.0, 1.0, 0.0, -0.0, Double.NaN, Double.NaN }) {
+			head.onEvent(event);
+		}
+		/* NaN is not positive, so it is not blocked; it equals itself. */
+		assertEquals(Arrays.asList(-1.0, 0.0, -0.0, Double.NaN), mReceived);
+	}
+
+	@Test
+	public void busFansOut() {
+		final DoubleEventBus bus = new DoubleEventBus();
+		DoubleStream.from(bus).pass(POSITIVE).end(mRecorder);
+		assertTrue(bus.register(mRecorder));
+		assertFalse(bus.register(mRecorder));
+		bus.onEvent(1.5);
+		bus.onEvent(-1.5);
+		assertTrue(bus.unregister(mRecorder));
+		bus.onEvent(2.5);
+		assertEquals(Arrays.asList(1.5, 1.5, -1.5, 2.5), mReceived);
+	}
+}
@@ -0,0 +1,72 @@
+package com.chalcodes.event.primitive.test;
+
+import com.chalcodes.event.primitive.IntEventBus;
+import com.chalcodes.event.primitive.IntFilter;
+import com.chalcodes.event.primitive.IntOp;
+import com.chalcodes.event.primitive.IntReceiver;
+import com.chalcodes.event.primitive.IntStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntStreamTest {
+	private static final IntFilter EVEN = new IntFilter() {
+		@Override
+		public boolean matches(final int event) {
+			return (event & 1) == 0;
+		}
+	};
+
+	private final List<Integer> mReceived = new ArrayList<Integer>();
+	private final IntReceiver mRecorder = new IntReceiver() {
+		@Override
+		public void onEvent(final int event) {
+			mReceived.add(event);
+		}
+	};
+
+	@Test
+	public void opChain() {
+		final IntOp op = IntStream.ignore(1).block(EVEN).changed().end();
+		op.register(mRecorder);
+		for(final int event : new int[] { 1, 3, 3, 4, 5, 5, 7 }) {
+			op.onEvent(event);
+		}
+		assertEquals(Arrays.asList(3, 5, 7), mReceived);
+	}
+
+	@Test
+	public void chainEndingInReceiver() {
+		final IntReceiver head = IntStream.pass(EVEN).changed().ignore(1).end(mRecorder);
+		for(final int event : new int[] { 2, 2, 3, 4, 4, 6, 2 }) {
+			head.onEvent(event);
+		}
+		assertEquals(Arrays.asList(4, 6, 2), mReceived);
+	}
+
+	@Test
+	public void busFansOut() {
+		final IntEventBus bus = new IntEventBus();
+		IntStream.from(bus).pass(EVEN).end(mRecorder);
+		assertTrue(bus.register(mRecorder));
+		assertFalse(bus.register(mRecorder));
+		bus.onEvent(2);
+		bus.onEvent(3);
+		assertTrue(bus.unregister(mRecorder));
+		bus.onEvent(4);
+		assertEquals(Arrays.asList(2, 2, 3, 4), mReceived);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void terminatedBuilder() {
+		final IntStream.OpBuilder builder = IntStream.changed();
+		builder.end();
+		builder.pass(EVEN);
+	}
+}
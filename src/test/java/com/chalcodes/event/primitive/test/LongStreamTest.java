@@ -0,0 +1,74 @@
+package com.chalcodes.event.primitive.test;
+
+import com.chalcodes.event.primitive.DoubleChanged;
+import com.chalcodes.event.primitive.DoubleReceiver;
+import com.chalcodes.event.primitive.LongEventBus;
+import com.chalcodes.event.primitive.LongFilter;
+import com.chalcodes.event.primitive.LongOp;
+import com.chalcodes.event.primitive.LongReceiver;
+import com.chalcodes.event.primitive.LongStream;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LongStreamTest {
+	private static final LongFilter EVEN = new LongFilter() {
+		@Override
+		public boolean matches(final long event) {
+			return (event & 1) == 0;
+		}
+	};
+
+	private final List<Long> mReceived = new ArrayList<Long>();
+	private final LongReceiver mRecorder = new LongReceiver() {
+		@Override
+		public void onEvent(final long event) {
+			mReceived.add(event);
+		}
+	};
+
+	@Test
+	public void opChain() {
+		final LongOp op = LongStream.ignore(1).block(EVEN).changed().end();
+		op.register(mRecorder);
+		for(final long event : new long[] { 1, 3, 3, 4, 5, 5, 7 }) {
+			op.onEvent(event);
+		}
+		assertEquals(Arrays.asList(3L, 5L, 7L), mReceived);
+	}
+
+	@Test
+	public void busFansOut() {
+		final LongEventBus bus = new LongEventBus();
+		LongStream.from(bus).pass(EVEN).end(mRecorder);
+		assertTrue(bus.register(mRecorder));
+		assertFalse(bus.register(mRecorder));
+		bus.onEvent(2);
+		bus.onEvent(3);
+		assertTrue(bus.unregister(mRecorder));
+		bus.onEvent(4);
+		assertEquals(Arrays.asList(2L, 2L, 3L, 4L), mReceived);
+	}
+
+	@Test
+	public void doubleChangedComparesLikeEquals() {
+		final List<Double> received = new ArrayList<Double>();
+		final DoubleChanged changed = new DoubleChanged();
+		changed.register(new DoubleReceiver() {
+			@Override
+			public void onEvent(final double event) {
+				received.add(event);
+			}
+		});
+		for(final double event : new double[] { Double.NaN, Double.NaN, 0.0, -0.0, -0.0 }) {
+			changed.onEvent(event);
+		}
+		assertEquals(Arrays.asList(Double.NaN, 0.0, -0.0), received);
+	}
+}
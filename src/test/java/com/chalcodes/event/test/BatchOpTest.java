@@ -0,0 +1,143 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.BatchReceiver;
+import com.chalcodes.event.ExceptionHandlers;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.StickyEventBus;
+import com.chalcodes.event.ops.Changed;
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Fused;
+import com.chalcodes.event.ops.Ignore;
+import com.chalcodes.event.ops.Pass;
+import com.chalcodes.util.CopyOnWriteArray;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchOpTest {
+	private static final Integer[] EVENTS = { 0, 1, 2, 2, 3, 4, 4, 5, 6 };
+
+	private static final Filter<Integer> EVEN = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return (event & 1) == 0;
+		}
+	};
+
+	private final List<Integer> mReceived = new ArrayList<Integer>();
+	private final List<List<Integer>> mBatches = new ArrayList<List<Integer>>();
+	private final BatchReceiver<Integer> mBatchRecorder = new BatchReceiver<Integer>() {
+		@Override
+		public void onEvents(final List<? extends Integer> events) {
+			mBatches.add(new ArrayList<Integer>(events));
+		}
+
+		@Override
+		public void onEvent(final Integer event) {
+			mBatches.add(Arrays.asList(event));
+		}
+	};
+	private final Receiver<Integer> mRecorder = new Receiver<Integer>() {
+		@Override
+		public void onEvent(final Integer event) {
+			mReceived.add(event);
+		}
+	};
+
+	@Test
+	public void busDeliversSliceToEachReceiver() {
+		final SimpleEventBus<Integer> bus = new SimpleEventBus<Integer>();
+		bus.register(mRecorder);
+		bus.register(mBatchRecorder);
+		bus.onEvents(EVENTS, 2, 3);
+		assertEquals(Arrays.asList(2, 2, 3), mReceived);
+		assertEquals(Arrays.asList(Arrays.asList(2, 2, 3)), mBatches);
+	}
+
+	@Test
+	public void stickyRetainsLastEventOfBatch() {
+		final StickyEventBus<Integer> bus = new StickyEventBus<Integer>();
+		bus.onEvents(EVENTS, 0, 5);
+		bus.register(mRecorder);
+		assertEquals(Arrays.asList(3), mReceived);
+	}
+
+	@Test
+	public void passForwardsRuns() {
+		final Pass<Integer> pass = new Pass<Integer>(EVEN);
+		pass.register(mBatchRecorder);
+		pass.onEvents(EVENTS, 0, EVENTS.length);
+		assertEquals(Arrays.asList(Arrays.asList(0), Arrays.asList(2, 2), Arrays.asList(4, 4), Arrays.asList(6)), mBatches);
+	}
+
+	@Test
+	public void chainedOpsMatchPerEventDelivery() {
+		final Ignore<Integer> ignore = new Ignore<Integer>(1);
+		final Changed<Integer> changed = new Changed<Integer>();
+		ignore.register(changed);
+		changed.register(mRecorder);
+		ignore.onEvents(EVENTS, 0, EVENTS.length);
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), mReceived);
+	}
+
+	@Test
+	public void ignoreRespectsSliceBounds() {
+		final Ignore<Integer> ignore = new Ignore<Integer>(2);
+		ignore.register(mRecorder);
+		ignore.onEvents(EVENTS, 3, 2);
+		ignore.onEvents(EVENTS, 5, 3);
+		assertEquals(Arrays.asList(4, 4, 5), mReceived);
+	}
+
+	@Test
+	public void negativeIgnoreCountIgnoresNothing() {
+		final Ignore<Integer> ignore = new Ignore<Integer>(-1);
+		ignore.register(mRecorder);
+		ignore.onEvents(EVENTS, 4, 2);
+		assertEquals(Arrays.asList(3, 4), mReceived);
+	}
+
+	@Test
+	public void fusedMatchesPerEventDelivery() {
+		final Fused<Integer> fused = Fused.<Integer>create().ignore(1).pass(EVEN).changed();
+		fused.register(mRecorder);
+		fused.onEvents(EVENTS, 0, EVENTS.length);
+		assertEquals(Arrays.asList(2, 4, 6), mReceived);
+	}
+
+	@Test
+	public void receiverUnregisteringItselfStopsBatch() {
+		final SimpleEventBus<Integer> bus = new SimpleEventBus<Integer>(
+				new CopyOnWriteArray<Receiver<? super Integer>>(), null);
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				mReceived.add(event);
+				bus.unregister(this);
+			}
+		});
+		bus.onEvents(new Integer[] { 1, 2, 3 }, 0, 3);
+		assertEquals(Arrays.asList(1), mReceived);
+	}
+
+	@Test
+	public void receiverUnregisteredByHandlerStopsBatch() {
+		final SimpleEventBus<Integer> bus = new SimpleEventBus<Integer>(
+				new CopyOnWriteArray<Receiver<? super Integer>>(), ExceptionHandlers.<Integer>unregister());
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				mReceived.add(event);
+				throw new IllegalStateException();
+			}
+		});
+		bus.register(mRecorder);
+		bus.onEvents(new Integer[] { 1, 2, 3 }, 0, 3);
+		assertEquals(Arrays.asList(1, 1, 2, 3), mReceived);
+	}
+}
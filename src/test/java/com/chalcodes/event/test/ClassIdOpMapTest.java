@@ -0,0 +1,101 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.ClassIdOpMap;
+import com.chalcodes.event.IdentifiedEvent;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.OpFactory;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ClassIdOpMapTest {
+	private final ClassIdOpMap mMap = new ClassIdOpMap(new OpFactory<Object, Object>() {
+		@Override
+		public Op<Object, Object> createOp() {
+			return new SimpleEventBus<Object>();
+		}
+	});
+	private final int mFooId = mMap.register(Foo.class);
+	private final int mBarId = mMap.register(Bar.class);
+
+	private class Foo implements IdentifiedEvent {
+		final int mValue;
+
+		Foo(final int value) {
+			mValue = value;
+		}
+
+		@Override
+		public int getClassId() {
+			return mFooId;
+		}
+	}
+
+	private class Bar implements IdentifiedEvent {
+		@Override
+		public int getClassId() {
+			return mBarId;
+		}
+	}
+
+	@Test
+	public void denseIds() {
+		assertEquals(0, mFooId);
+		assertEquals(1, mBarId);
+		assertEquals(mFooId, mMap.register(Foo.class));
+		assertEquals(mBarId, mMap.getId(Bar.class));
+		assertEquals(-1, mMap.getId(String.class));
+	}
+
+	@Test
+	public void opsByIdAndClass() {
+		final Op<Foo, Foo> foo = mMap.getOp(mFooId);
+		assertSame(foo, mMap.getOp(Foo.class));
+		assertNotSame(foo, mMap.getOp(mBarId));
+		/* Looking up an unregistered class registers it. */
+		mMap.getOp(String.class);
+		assertEquals(2, mMap.getId(String.class));
+	}
+
+	@Test
+	public void routesByClassId() {
+		final List<Integer> foos = new ArrayList<Integer>();
+		final List<Bar> bars = new ArrayList<Bar>();
+		mMap.getOp(Foo.class).register(new Receiver<Foo>() {
+			@Override
+			public void onEvent(final Foo event) {
+				foos.add(event.mValue);
+			}
+		});
+		mMap.getOp(Bar.class).register(new Receiver<Bar>() {
+			@Override
+			public void onEvent(final Bar event) {
+				bars.add(event);
+			}
+		});
+		final Bar bar = new Bar();
+		mMap.onEvent(new Foo(1));
+		mMap.onEvent(bar);
+		mMap.onEvent(new Foo(2));
+		assertEquals(Arrays.asList(1, 2), foos);
+		assertEquals(Arrays.asList(bar), bars);
+	}
+
+	@Test(expected = ArrayIndexOutOfBoundsException.class)
+	public void unregisteredId() {
+		mMap.onEvent(new IdentifiedEvent() {
+			@Override
+			public int getClassId() {
+				return 5;
+			}
+		});
+	}
+}
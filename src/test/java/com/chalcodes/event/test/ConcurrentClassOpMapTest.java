@@ -0,0 +1,90 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.ConcurrentClassOpMap;
+import com.chalcodes.event.ConcurrentEventBus;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.OpFactory;
+import com.chalcodes.event.Receiver;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class ConcurrentClassOpMapTest {
+	private final AtomicInteger mCreated = new AtomicInteger();
+	private final ConcurrentClassOpMap mMap = new ConcurrentClassOpMap(new OpFactory<Object, Object>() {
+		@Override
+		public Op<Object, Object> createOp() {
+			mCreated.incrementAndGet();
+			return new ConcurrentEventBus<Object>();
+		}
+	});
+
+	@Test
+	public void oneOpPerClass() {
+		final Op<String, String> strings = mMap.getOp(String.class);
+		assertSame(strings, mMap.getOp(String.class));
+		assertNotSame(strings, mMap.getOp(Integer.class));
+		assertEquals(2, mCreated.get());
+	}
+
+	@Test
+	public void routesEventsByClass() {
+		final List<String> received = new ArrayList<String>();
+		mMap.getOp(String.class).register(new Receiver<String>() {
+			@Override
+			public void onEvent(final String event) {
+				received.add(event);
+			}
+		});
+		mMap.getOp(String.class).onEvent("a");
+		mMap.getOp(Integer.class).onEvent(1);
+		assertEquals(Collections.singletonList("a"), received);
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentFirstLookupCreatesOnce() throws InterruptedException {
+		final Class<?>[] classes = { String.class, Integer.class, Long.class, Double.class };
+		final int threads = 8;
+		final AtomicReferenceArray<Object> seen = new AtomicReferenceArray<Object>(classes.length);
+		final AtomicInteger mismatches = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> workers = new ArrayList<Thread>();
+		for(int t = 0; t < threads; ++t) {
+			workers.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					}
+					catch(InterruptedException e) {
+						return;
+					}
+					for(int i = 0; i < classes.length; ++i) {
+						final Op<?, ?> op = mMap.getOp(classes[i]);
+						if(!seen.compareAndSet(i, null, op) && seen.get(i) != op) {
+							mismatches.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		for(final Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(0, mismatches.get());
+		assertEquals(classes.length, mCreated.get());
+	}
+}
@@ -0,0 +1,172 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.ConcurrentEventBus;
+import com.chalcodes.event.Emitter;
+import com.chalcodes.event.ExceptionHandler;
+import com.chalcodes.event.Receiver;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConcurrentEventBusTest {
+	private final List<String> mReceived = Collections.synchronizedList(new ArrayList<String>());
+
+	private Receiver<Integer> recorder(final String name) {
+		return new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				mReceived.add(name + event);
+			}
+		};
+	}
+
+	/** Counts events without recording them. */
+	private static class Counter implements Receiver<Integer> {
+		final AtomicInteger mCount = new AtomicInteger();
+
+		@Override
+		public void onEvent(final Integer event) {
+			mCount.incrementAndGet();
+		}
+	}
+
+	@Test
+	public void deliversInRegistrationOrder() {
+		final ConcurrentEventBus<Integer> bus = new ConcurrentEventBus<Integer>();
+		final Receiver<Integer> a = recorder("a");
+		assertTrue(bus.register(a));
+		assertTrue(bus.register(recorder("b")));
+		bus.onEvent(1);
+		assertTrue(bus.unregister(a));
+		assertFalse(bus.unregister(a));
+		bus.onEvent(2);
+		assertEquals(Arrays.asList("a1", "b1", "b2"), mReceived);
+	}
+
+	@Test
+	public void unregisterDuringDeliveryTakesEffectNextEvent() {
+		final ConcurrentEventBus<Integer> bus = new ConcurrentEventBus<Integer>();
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				mReceived.add("x" + event);
+				bus.unregister(this);
+			}
+		});
+		bus.register(recorder("b"));
+		bus.onEvent(1);
+		bus.onEvent(2);
+		assertEquals(Arrays.asList("x1", "b1", "b2"), mReceived);
+	}
+
+	@Test
+	public void exceptionHandlerContinuesDelivery() {
+		final List<RuntimeException> handled = new ArrayList<RuntimeException>();
+		final ConcurrentEventBus<Integer> bus = new ConcurrentEventBus<Integer>(new ExceptionHandler<Integer>() {
+			@Override
+			public void onException(final Emitter<Integer> emitter, final Receiver<? super Integer> receiver,
+			                        final Integer event, final RuntimeException e) {
+				handled.add(e);
+			}
+		});
+		final IllegalStateException failure = new IllegalStateException();
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				throw failure;
+			}
+		});
+		bus.register(recorder("b"));
+		bus.onEvent(1);
+		assertEquals(Collections.singletonList(failure), handled);
+		assertEquals(Collections.singletonList("b1"), mReceived);
+	}
+
+	@Test
+	public void exceptionPropagatesWithoutHandler() {
+		final ConcurrentEventBus<Integer> bus = new ConcurrentEventBus<Integer>();
+		final IllegalStateException failure = new IllegalStateException();
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				throw failure;
+			}
+		});
+		try {
+			bus.onEvent(1);
+			fail();
+		}
+		catch(IllegalStateException e) {
+			assertSame(failure, e);
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentRegistrationLosesNothing() throws InterruptedException {
+		final int threads = 4;
+		final int perThread = 500;
+		final ConcurrentEventBus<Integer> bus = new ConcurrentEventBus<Integer>();
+		final Counter[][] counters = new Counter[threads][perThread];
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicInteger missing = new AtomicInteger();
+		final List<Thread> workers = new ArrayList<Thread>();
+		for(int t = 0; t < threads; ++t) {
+			final Counter[] mine = counters[t];
+			workers.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					}
+					catch(InterruptedException e) {
+						return;
+					}
+					for(int i = 0; i < perThread; ++i) {
+						mine[i] = new Counter();
+						bus.register(mine[i]);
+						/* Publishing while others register must not disturb them. */
+						bus.onEvent(i);
+					}
+					for(int i = 0; i < perThread; i += 2) {
+						if(!bus.unregister(mine[i])) {
+							missing.incrementAndGet();
+						}
+					}
+				}
+			});
+		}
+		for(final Thread worker : workers) {
+			worker.start();
+		}
+		start.countDown();
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(0, missing.get());
+		final int[] before = new int[threads * perThread];
+		for(int t = 0; t < threads; ++t) {
+			for(int i = 0; i < perThread; ++i) {
+				before[t * perThread + i] = counters[t][i].mCount.get();
+			}
+		}
+		bus.onEvent(-1);
+		for(int t = 0; t < threads; ++t) {
+			for(int i = 0; i < perThread; ++i) {
+				/* Odd receivers remain registered; even ones were removed. */
+				final int expected = before[t * perThread + i] + (i % 2);
+				assertEquals(expected, counters[t][i].mCount.get());
+			}
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.FrozenEventBus;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.util.CollectionFactories;
+import com.chalcodes.util.CollectionFactory;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FrozenEventBusTest {
+	private final List<String> mReceived = new ArrayList<String>();
+
+	private Receiver<Integer> recorder(final String name) {
+		return new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				mReceived.add(name + event);
+			}
+		};
+	}
+
+	private Collection<Receiver<? super Integer>> receivers(final CollectionFactory factory, final int count) {
+		final Collection<Receiver<? super Integer>> receivers = factory.create();
+		for(int i = 0; i < count; ++i) {
+			receivers.add(recorder(String.valueOf((char) ('a' + i))));
+		}
+		return receivers;
+	}
+
+	private FrozenEventBus<Integer> frozen(final int count) {
+		final CollectionFactory factory = CollectionFactories.copyOnWriteArray();
+		return FrozenEventBus.freeze(factory, receivers(factory, count), null);
+	}
+
+	@Test
+	public void deliversInOrderForEachSize() {
+		for(int n = 0; n <= 4; ++n) {
+			mReceived.clear();
+			frozen(n).onEvent(1);
+			assertEquals(n, mReceived.size());
+			for(int i = 0; i < n; ++i) {
+				assertEquals((char) ('a' + i) + "1", mReceived.get(i));
+			}
+		}
+	}
+
+	@Test
+	public void independentOfSource() {
+		final CollectionFactory factory = CollectionFactories.copyOnWriteArray();
+		final Collection<Receiver<? super Integer>> source = receivers(factory, 1);
+		final FrozenEventBus<Integer> frozen = FrozenEventBus.freeze(factory, source, null);
+		source.add(recorder("x"));
+		frozen.onEvent(1);
+		assertEquals(Arrays.asList("a1"), mReceived);
+	}
+
+	@Test
+	public void thawsOnRegistration() {
+		final FrozenEventBus<Integer> frozen = frozen(2);
+		final Receiver<Integer> extra = recorder("x");
+		assertTrue(frozen.register(extra));
+		frozen.onEvent(1);
+		assertTrue(frozen.unregister(extra));
+		frozen.onEvent(2);
+		assertEquals(Arrays.asList("a1", "b1", "x1", "a2", "b2"), mReceived);
+	}
+
+	@Test
+	public void thawKeepsCollectionSemantics() {
+		final CollectionFactory factory = CollectionFactories.linkedHashSet();
+		final Collection<Receiver<? super Integer>> receivers = receivers(factory, 3);
+		final FrozenEventBus<Integer> frozen = FrozenEventBus.freeze(factory, receivers, null);
+		final Receiver<? super Integer> first = receivers.iterator().next();
+		/* A set rejects duplicates where the default array would not. */
+		assertFalse(frozen.register(first));
+		frozen.onEvent(1);
+		assertEquals(Arrays.asList("a1", "b1", "c1"), mReceived);
+	}
+}
@@ -0,0 +1,54 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.ClassOpMap;
+import com.chalcodes.event.HierarchyDispatcher;
+import com.chalcodes.event.Op;
+import com.chalcodes.event.OpFactory;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class HierarchyDispatcherTest {
+	private final ClassOpMap mMap = new ClassOpMap(new OpFactory<Object, Object>() {
+		@Override
+		public Op<Object, Object> createOp() {
+			return new SimpleEventBus<Object>();
+		}
+	});
+	private final HierarchyDispatcher mDispatcher = new HierarchyDispatcher(mMap);
+	private final List<String> mReceived = new ArrayList<String>();
+
+	private <E> void record(final Class<E> klass, final String name) {
+		mMap.getOp(klass).register(new Receiver<E>() {
+			@Override
+			public void onEvent(final E event) {
+				mReceived.add(name);
+			}
+		});
+	}
+
+	@Test
+	public void classThenSuperclassesThenInterfaces() {
+		record(CharSequence.class, "CharSequence");
+		record(Object.class, "Object");
+		record(String.class, "String");
+		record(Integer.class, "Integer");
+		mDispatcher.onEvent("a");
+		assertEquals(Arrays.asList("String", "Object", "CharSequence"), mReceived);
+	}
+
+	@Test
+	public void cachedResolution() {
+		record(Number.class, "Number");
+		mDispatcher.onEvent(1);
+		mDispatcher.onEvent(2L);
+		mDispatcher.onEvent(3);
+		assertEquals(Arrays.asList("Number", "Number", "Number"), mReceived);
+	}
+}
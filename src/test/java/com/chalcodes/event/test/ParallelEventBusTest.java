@@ -0,0 +1,180 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.ParallelEventBus;
+import com.chalcodes.event.Receiver;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelEventBusTest {
+	private final ExecutorService mPool = Executors.newFixedThreadPool(4);
+
+	/** Collects tasks so the test decides when they run. */
+	private final List<Runnable> mTasks = new ArrayList<Runnable>();
+	private final Executor mManual = new Executor() {
+		@Override
+		public void execute(final Runnable command) {
+			mTasks.add(command);
+		}
+	};
+
+	@After
+	public void tearDown() {
+		mPool.shutdownNow();
+	}
+
+	/** Records the thread each event was received on. */
+	private static class ThreadRecorder implements Receiver<Integer> {
+		volatile Thread mThread;
+
+		@Override
+		public void onEvent(final Integer event) {
+			mThread = Thread.currentThread();
+		}
+	}
+
+	private static ThreadRecorder[] register(final ParallelEventBus<Integer> bus, final int count) {
+		final ThreadRecorder[] recorders = new ThreadRecorder[count];
+		for(int i = 0; i < count; ++i) {
+			recorders[i] = new ThreadRecorder();
+			bus.register(recorders[i]);
+		}
+		return recorders;
+	}
+
+	@Test
+	public void fewReceiversDeliverInline() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mManual, 4, true, null);
+		final ThreadRecorder[] recorders = register(bus, 4);
+		bus.onEvent(0);
+		assertEquals(0, mTasks.size());
+		for(final ThreadRecorder recorder : recorders) {
+			assertSame(Thread.currentThread(), recorder.mThread);
+		}
+	}
+
+	@Test
+	public void inlineThresholdAboveChunkSize() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mManual, 2, 5, false, null);
+		final ThreadRecorder[] recorders = register(bus, 5);
+		bus.onEvent(0);
+		assertEquals(0, mTasks.size());
+		for(final ThreadRecorder recorder : recorders) {
+			assertSame(Thread.currentThread(), recorder.mThread);
+		}
+		bus.register(new ThreadRecorder());
+		bus.onEvent(1);
+		/* Chunks 2-3 and 4-5 are submitted; 0-1 run inline. */
+		assertEquals(2, mTasks.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeInlineThreshold() {
+		new ParallelEventBus<Integer>(mManual, 2, -1, false, null);
+	}
+
+	@Test
+	public void chunksWithoutWaiting() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mManual, 3, false, null);
+		final ThreadRecorder[] recorders = register(bus, 10);
+		bus.onEvent(0);
+		/* Chunks 3-5, 6-8, and 9 are submitted; 0-2 run inline. */
+		assertEquals(3, mTasks.size());
+		for(int i = 0; i < 10; ++i) {
+			assertEquals(i < 3 ? Thread.currentThread() : null, recorders[i].mThread);
+		}
+		for(final Runnable task : mTasks) {
+			task.run();
+		}
+		for(final ThreadRecorder recorder : recorders) {
+			assertSame(Thread.currentThread(), recorder.mThread);
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void waitsForAllChunks() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mPool, 2, true, null);
+		final AtomicInteger count = new AtomicInteger();
+		for(int i = 0; i < 9; ++i) {
+			bus.register(new Receiver<Integer>() {
+				@Override
+				public void onEvent(final Integer event) {
+					try {
+						Thread.sleep(10);
+					}
+					catch(InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					count.incrementAndGet();
+				}
+			});
+		}
+		bus.onEvent(0);
+		assertEquals(9, count.get());
+	}
+
+	@Test(timeout = 10000)
+	public void waitsWhenInlineChunkThrows() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mPool, 1, true, null);
+		final RuntimeException failure = new RuntimeException();
+		final AtomicBoolean slowDone = new AtomicBoolean();
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				throw failure;
+			}
+		});
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				try {
+					Thread.sleep(200);
+				}
+				catch(InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				slowDone.set(true);
+			}
+		});
+		try {
+			bus.onEvent(0);
+			fail();
+		}
+		catch(RuntimeException e) {
+			assertSame(failure, e);
+		}
+		assertTrue(slowDone.get());
+	}
+
+	@Test(timeout = 10000)
+	public void rethrowsFailureFromOtherChunk() {
+		final ParallelEventBus<Integer> bus = new ParallelEventBus<Integer>(mPool, 1, true, null);
+		final RuntimeException failure = new RuntimeException();
+		bus.register(new ThreadRecorder());
+		bus.register(new Receiver<Integer>() {
+			@Override
+			public void onEvent(final Integer event) {
+				throw failure;
+			}
+		});
+		try {
+			bus.onEvent(0);
+			fail();
+		}
+		catch(RuntimeException e) {
+			assertSame(failure, e);
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.RingBufferBus;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RingBufferBusTest {
+	private static final int CAPACITY = 4;
+
+	private final ExecutorService mExecutor = Executors.newCachedThreadPool();
+	private final RingBufferBus<Integer> mBus =
+			new RingBufferBus<Integer>(mExecutor, CAPACITY, RingBufferBus.WaitStrategy.PARK, null);
+
+	@After
+	public void tearDown() {
+		mExecutor.shutdownNow();
+	}
+
+	/** Records events, optionally blocking on a gate before each one. */
+	private static class Recorder implements Receiver<Integer> {
+		final List<Integer> mReceived = new CopyOnWriteArrayList<Integer>();
+		final CountDownLatch mGate;
+
+		Recorder(final CountDownLatch gate) {
+			mGate = gate;
+		}
+
+		@Override
+		public void onEvent(final Integer event) {
+			try {
+				mGate.await();
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			mReceived.add(event);
+		}
+
+		void await(final int count) throws InterruptedException {
+			final long deadline = System.currentTimeMillis() + 10000;
+			while(mReceived.size() < count) {
+				if(System.currentTimeMillis() > deadline) {
+					fail("received " + mReceived.size() + " of " + count);
+				}
+				Thread.sleep(1);
+			}
+		}
+	}
+
+	/** Publishes events in a background thread, counting completed calls. */
+	private Thread publish(final int from, final int count, final AtomicInteger published) {
+		final Thread thread = new Thread() {
+			@Override
+			public void run() {
+				for(int i = from; i < from + count; ++i) {
+					mBus.onEvent(i);
+					published.incrementAndGet();
+				}
+			}
+		};
+		thread.start();
+		return thread;
+	}
+
+	private static void assertSequence(final List<Integer> received, final int from, final int count) {
+		assertEquals(count, received.size());
+		for(int i = 0; i < count; ++i) {
+			assertEquals(Integer.valueOf(from + i), received.get(i));
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void wrapsWithBackpressure() throws InterruptedException {
+		final CountDownLatch gate = new CountDownLatch(1);
+		final Recorder recorder = new Recorder(gate);
+		mBus.register(recorder);
+		final AtomicInteger published = new AtomicInteger();
+		final Thread publisher = publish(0, 20, published);
+		Thread.sleep(100);
+		/* The buffer plus the event the receiver is blocked on. */
+		assertTrue(published.get() <= CAPACITY + 1);
+		gate.countDown();
+		publisher.join(10000);
+		recorder.await(20);
+		assertSequence(recorder.mReceived, 0, 20);
+	}
+
+	@Test(timeout = 10000)
+	public void lateRegistrationGatesPublishers() throws InterruptedException {
+		for(int i = 0; i < 10; ++i) {
+			mBus.onEvent(-1);
+		}
+		final CountDownLatch gate = new CountDownLatch(1);
+		final Recorder recorder = new Recorder(gate);
+		mBus.register(recorder);
+		final AtomicInteger published = new AtomicInteger();
+		final Thread publisher = publish(0, 100, published);
+		Thread.sleep(100);
+		assertTrue(published.get() <= CAPACITY + 1);
+		gate.countDown();
+		publisher.join(10000);
+		recorder.await(100);
+		assertSequence(recorder.mReceived, 0, 100);
+	}
+
+	@Test(timeout = 10000)
+	public void dependentReceivesAfterDependency() throws InterruptedException {
+		final Recorder first = new Recorder(new CountDownLatch(0));
+		final AtomicInteger violations = new AtomicInteger();
+		final Recorder second = new Recorder(new CountDownLatch(0)) {
+			@Override
+			public void onEvent(final Integer event) {
+				if(!first.mReceived.contains(event)) {
+					violations.incrementAndGet();
+				}
+				super.onEvent(event);
+			}
+		};
+		mBus.register(first);
+		mBus.register(second, first);
+		for(int i = 0; i < 200; ++i) {
+			mBus.onEvent(i);
+		}
+		second.await(200);
+		assertEquals(0, violations.get());
+		assertSequence(second.mReceived, 0, 200);
+	}
+
+	@Test(timeout = 10000, expected = IllegalArgumentException.class)
+	public void unregisteredDependency() {
+		mBus.register(new Recorder(new CountDownLatch(0)), new Recorder(new CountDownLatch(0)));
+	}
+
+	@Test(timeout = 10000)
+	public void unregisterStopsDeliveryAndGating() throws InterruptedException {
+		final Recorder recorder = new Recorder(new CountDownLatch(0));
+		assertTrue(mBus.register(recorder));
+		assertFalse(mBus.register(recorder));
+		mBus.onEvent(0);
+		recorder.await(1);
+		assertTrue(mBus.unregister(recorder));
+		assertFalse(mBus.unregister(recorder));
+		final AtomicInteger published = new AtomicInteger();
+		publish(1, 100, published).join(10000);
+		assertEquals(100, published.get());
+		Thread.sleep(50);
+		assertSequence(recorder.mReceived, 0, 1);
+	}
+
+	@Test(timeout = 10000)
+	public void rejectedRegistrationDoesNotGate() {
+		final RingBufferBus<Integer> bus = new RingBufferBus<Integer>(new Executor() {
+			@Override
+			public void execute(final Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		}, CAPACITY, RingBufferBus.WaitStrategy.PARK, null);
+		final Recorder recorder = new Recorder(new CountDownLatch(0));
+		try {
+			bus.register(recorder);
+			fail();
+		}
+		catch(RejectedExecutionException expected) {
+			/* Expected. */
+		}
+		for(int i = 0; i < CAPACITY * 4; ++i) {
+			bus.onEvent(i);
+		}
+		assertFalse(bus.unregister(recorder));
+	}
+}
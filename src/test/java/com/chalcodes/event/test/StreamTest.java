@@ -0,0 +1,73 @@
+package com.chalcodes.event.test;
+
+import com.chalcodes.event.Op;
+import com.chalcodes.event.Receiver;
+import com.chalcodes.event.SimpleEventBus;
+import com.chalcodes.event.Stream;
+import com.chalcodes.event.ops.Filter;
+import com.chalcodes.event.ops.Fused;
+import com.chalcodes.event.ops.Pass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StreamTest {
+	private static final Filter<Integer> EVEN = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return (event & 1) == 0;
+		}
+	};
+
+	private static final Filter<Integer> SMALL = new Filter<Integer>() {
+		@Override
+		public boolean matches(final Integer event) {
+			return event < 10;
+		}
+	};
+
+	private final List<Integer> mReceived = new ArrayList<Integer>();
+	private final Receiver<Integer> mRecorder = new Receiver<Integer>() {
+		@Override
+		public void onEvent(final Integer event) {
+			mReceived.add(event);
+		}
+	};
+
+	private void publish(final Receiver<Integer> head, final Integer... events) {
+		for(final Integer event : events) {
+			head.onEvent(event);
+		}
+	}
+
+	@Test
+	public void fusedStagesBehaveLikeChainedOps() {
+		final Receiver<Integer> head = Stream.pass(EVEN).ignore(1).changed().pass(SMALL).end(mRecorder);
+		assertTrue(head instanceof Fused);
+		publish(head, 0, 2, 2, 3, 4, 12, 6, 6);
+		assertEquals(Arrays.asList(2, 4, 6), mReceived);
+	}
+
+	@Test
+	public void explicitOpsAreNotFused() {
+		final Pass<Integer> pass = new Pass<Integer>(EVEN);
+		final Receiver<Integer> head = Stream.from(pass).pass(SMALL).end(mRecorder);
+		assertTrue(head == pass);
+		publish(head, 1, 2, 12);
+		assertEquals(Arrays.asList(2), mReceived);
+	}
+
+	@Test
+	public void fusedStagesBetweenOps() {
+		final SimpleEventBus<Integer> bus = new SimpleEventBus<Integer>();
+		final Op<Integer, Integer> op = Stream.from(bus).pass(EVEN).pass(SMALL).to(new SimpleEventBus<Integer>()).end();
+		op.register(mRecorder);
+		publish(op, 1, 2, 12, 4);
+		assertEquals(Arrays.asList(2, 4), mReceived);
+	}
+}
@@ -0,0 +1,87 @@
+package com.chalcodes.util.test;
+
+import com.chalcodes.util.AtomicArray;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AtomicArrayTest {
+	private final AtomicArray<Integer> mArray = new AtomicArray<Integer>();
+
+	@Test
+	public void addAndRemove() {
+		final Object[] empty = mArray.snapshot();
+		assertTrue(mArray.add(2));
+		assertTrue(mArray.add(0));
+		assertTrue(mArray.add(2));
+		final Object[] full = mArray.snapshot();
+		assertTrue(mArray.remove(2));
+		assertFalse(mArray.remove(1));
+		assertEquals(0, empty.length);
+		assertArrayEquals(new Object[] { 2, 0, 2 }, full);
+		assertArrayEquals(new Object[] { 0, 2 }, mArray.snapshot());
+	}
+
+	@Test
+	public void reopensWhenEmpty() {
+		mArray.add(0);
+		mArray.remove(0);
+		assertFalse(mArray.isClosed());
+		assertTrue(mArray.add(1));
+		assertArrayEquals(new Object[] { 1 }, mArray.snapshot());
+	}
+
+	@Test
+	public void closesWhenEmpty() {
+		final AtomicArray<Integer> array = new AtomicArray<Integer>(true);
+		/* A new array is empty but open. */
+		assertTrue(array.add(0));
+		assertTrue(array.add(1));
+		array.remove(0);
+		assertFalse(array.isClosed());
+		array.remove(1);
+		assertTrue(array.isClosed());
+		assertFalse(array.add(2));
+		assertEquals(0, array.snapshot().length);
+	}
+
+	@Test(timeout = 10000)
+	public void concurrentModificationLosesNothing() throws InterruptedException {
+		final int threads = 4;
+		final int perThread = 1000;
+		final List<Thread> workers = new ArrayList<Thread>();
+		for(int t = 0; t < threads; ++t) {
+			final int base = t * perThread;
+			workers.add(new Thread() {
+				@Override
+				public void run() {
+					for(int i = 0; i < perThread; ++i) {
+						mArray.add(base + i);
+					}
+					for(int i = 0; i < perThread; i += 2) {
+						mArray.remove(base + i);
+					}
+				}
+			});
+		}
+		for(final Thread worker : workers) {
+			worker.start();
+		}
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		final Object[] snapshot = mArray.snapshot();
+		Arrays.sort(snapshot);
+		assertEquals(threads * perThread / 2, snapshot.length);
+		for(int i = 0; i < snapshot.length; ++i) {
+			assertEquals(2 * i + 1, snapshot[i]);
+		}
+	}
+}
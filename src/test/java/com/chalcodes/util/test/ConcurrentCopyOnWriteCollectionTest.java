@@ -0,0 +1,70 @@
+package com.chalcodes.util.test;
+
+import com.chalcodes.util.CollectionFactories;
+import com.chalcodes.util.ConcurrentCopyOnWriteCollection;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentCopyOnWriteCollectionTest {
+	private final Collection<Integer> mCollection = new ConcurrentCopyOnWriteCollection<Integer>(CollectionFactories.hashSet());
+
+	@Test
+	public void iteratorSeesSnapshot() {
+		mCollection.addAll(Arrays.asList(0, 1, 2));
+		final Iterator<Integer> iter = mCollection.iterator();
+		mCollection.remove(1);
+		mCollection.add(3);
+		final Set<Integer> seen = new HashSet<Integer>();
+		while(iter.hasNext()) {
+			seen.add(iter.next());
+		}
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 1, 2)), seen);
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 2, 3)), new HashSet<Integer>(mCollection));
+	}
+
+	@Test
+	public void unchangedMutatorsReturnFalse() {
+		mCollection.add(0);
+		assertFalse(mCollection.add(0));
+		assertFalse(mCollection.remove(1));
+		assertFalse(mCollection.retainAll(Arrays.asList(0)));
+		assertTrue(mCollection.retainAll(Arrays.asList(1)));
+		assertTrue(mCollection.isEmpty());
+	}
+
+	@Test
+	public void concurrentAddsAreNotLost() throws InterruptedException {
+		final int threads = 4;
+		final int perThread = 500;
+		final Thread[] workers = new Thread[threads];
+		for(int t = 0; t < threads; ++t) {
+			final int base = t * perThread;
+			workers[t] = new Thread() {
+				@Override
+				public void run() {
+					for(int i = 0; i < perThread; ++i) {
+						mCollection.add(base + i);
+						// iterate while others are modifying
+						for(final Integer ignored : mCollection) {
+							break;
+						}
+					}
+				}
+			};
+			workers[t].start();
+		}
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(threads * perThread, mCollection.size());
+	}
+}
@@ -0,0 +1,69 @@
+package com.chalcodes.util.test;
+
+import com.chalcodes.util.CopyOnWriteArray;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CopyOnWriteArrayTest {
+	private CopyOnWriteArray<Integer> mCopyOnWriteArray = new CopyOnWriteArray<Integer>();
+
+	@Test
+	public void preservesOrderAndDuplicates() {
+		mCopyOnWriteArray.addAll(Arrays.asList(2, 0, 2));
+		assertArrayEquals(new Object[] { 2, 0, 2 }, mCopyOnWriteArray.snapshot());
+	}
+
+	/* Interleaved snapshots and modification demonstrating copy on write behavior of each mutator. */
+
+	@Test
+	public void add() throws Exception {
+		final Object[] snapshot = mCopyOnWriteArray.snapshot();
+		assertTrue(mCopyOnWriteArray.add(0));
+		assertEquals(0, snapshot.length);
+		assertArrayEquals(new Object[] { 0 }, mCopyOnWriteArray.snapshot());
+	}
+
+	@Test
+	public void remove() throws Exception {
+		mCopyOnWriteArray.addAll(Arrays.asList(0, 1, 2));
+		final Object[] snapshot = mCopyOnWriteArray.snapshot();
+		assertTrue(mCopyOnWriteArray.remove(1));
+		assertFalse(mCopyOnWriteArray.remove(1));
+		assertArrayEquals(new Object[] { 0, 1, 2 }, snapshot);
+		assertArrayEquals(new Object[] { 0, 2 }, mCopyOnWriteArray.snapshot());
+	}
+
+	@Test
+	public void removeAll() throws Exception {
+		mCopyOnWriteArray.addAll(Arrays.asList(0, 1, 2));
+		final Object[] snapshot = mCopyOnWriteArray.snapshot();
+		assertTrue(mCopyOnWriteArray.removeAll(Collections.singleton(0)));
+		assertEquals(3, snapshot.length);
+		assertArrayEquals(new Object[] { 1, 2 }, mCopyOnWriteArray.snapshot());
+	}
+
+	@Test
+	public void retainAll() throws Exception {
+		mCopyOnWriteArray.addAll(Arrays.asList(0, 1, 2));
+		final Object[] snapshot = mCopyOnWriteArray.snapshot();
+		assertTrue(mCopyOnWriteArray.retainAll(Collections.singleton(0)));
+		assertEquals(3, snapshot.length);
+		assertArrayEquals(new Object[] { 0 }, mCopyOnWriteArray.snapshot());
+	}
+
+	@Test
+	public void clear() throws Exception {
+		mCopyOnWriteArray.add(0);
+		final Object[] snapshot = mCopyOnWriteArray.snapshot();
+		mCopyOnWriteArray.clear();
+		assertEquals(1, snapshot.length);
+		assertEquals(0, mCopyOnWriteArray.snapshot().length);
+	}
+}
@@ -0,0 +1,105 @@
+package com.chalcodes.util.test;
+
+import com.chalcodes.util.HashTrieSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HashTrieSetTest {
+	/** Elements whose hashes collide in groups of four. */
+	private static final class Colliding {
+		final int mValue;
+
+		Colliding(final int value) {
+			mValue = value;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			return o instanceof Colliding && ((Colliding) o).mValue == mValue;
+		}
+
+		@Override
+		public int hashCode() {
+			return mValue / 4;
+		}
+	}
+
+	@Test
+	public void matchesHashSet() {
+		final Random random = new Random(42);
+		final Set<Object> expected = new HashSet<Object>();
+		final Set<Object> actual = new HashTrieSet<Object>();
+		for(int i = 0; i < 20000; ++i) {
+			final Object element = random.nextBoolean() ? (Object) random.nextInt(2000) : new Colliding(random.nextInt(200));
+			if(random.nextInt(3) == 0) {
+				assertEquals(expected.remove(element), actual.remove(element));
+			}
+			else {
+				assertEquals(expected.add(element), actual.add(element));
+			}
+			assertEquals(expected.size(), actual.size());
+		}
+		assertEquals(expected, actual);
+		assertEquals(expected, new HashSet<Object>(Arrays.asList(actual.toArray())));
+		for(final Object element : expected) {
+			assertTrue(actual.contains(element));
+		}
+		for(final Object element : expected.toArray()) {
+			assertTrue(actual.remove(element));
+		}
+		assertTrue(actual.isEmpty());
+		assertFalse(actual.iterator().hasNext());
+	}
+
+	@Test
+	public void iteratorSeesSnapshot() {
+		final Set<Integer> set = new HashTrieSet<Integer>(Arrays.asList(0, 1, 2));
+		final Iterator<Integer> iter = set.iterator();
+		set.remove(1);
+		set.add(3);
+		final Set<Integer> seen = new HashSet<Integer>();
+		while(iter.hasNext()) {
+			seen.add(iter.next());
+		}
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 1, 2)), seen);
+		assertEquals(new HashSet<Integer>(Arrays.asList(0, 2, 3)), set);
+	}
+
+	@Test
+	public void iteratorRemove() {
+		final Set<Integer> set = new HashTrieSet<Integer>(Arrays.asList(0, 1, 2, 3));
+		assertTrue(set.retainAll(Arrays.asList(1, 3)));
+		assertEquals(new HashSet<Integer>(Arrays.asList(1, 3)), set);
+	}
+
+	@Test
+	public void concurrentAddsAreNotLost() throws InterruptedException {
+		final Set<Integer> set = new HashTrieSet<Integer>();
+		final Thread[] workers = new Thread[4];
+		for(int t = 0; t < workers.length; ++t) {
+			final int base = t * 1000;
+			workers[t] = new Thread() {
+				@Override
+				public void run() {
+					for(int i = 0; i < 1000; ++i) {
+						set.add(base + i);
+					}
+				}
+			};
+			workers[t].start();
+		}
+		for(final Thread worker : workers) {
+			worker.join();
+		}
+		assertEquals(4000, set.size());
+	}
+}